@@ -0,0 +1,120 @@
+package thd.game.managers;
+
+import thd.gameobjects.base.CollidingGameObject;
+import thd.gameobjects.base.CollisionCategory;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks both broadphases against a test of all pairs. Every pair of game objects that collides has to be among the
+ * candidate pairs, and every game object whose hitbox bounds overlap an area has to be among the candidates of the
+ * area. Area queries are mixed with the pair queries in both orders.
+ * Prints the number of misses and exits with status 1 if there are any.
+ */
+public class BroadphaseCheck {
+    private static final int TRIALS = 300;
+    private static final int FRAMES = 20;
+
+    public static void main(String[] args) {
+        long misses = 0;
+        misses += check(new SweepAndPrune(), new Random(4));
+        misses += check(new CollisionGrid(), new Random(4));
+
+        System.out.println("misses=" + misses);
+        if (misses > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static long check(Broadphase broadphase, Random random) {
+        long misses = 0;
+        for (int trial = 0; trial < TRIALS; trial++) {
+            List<CollidingGameObject> testObjects = new ArrayList<>();
+            for (int objectIdx = 0; objectIdx < 60 + random.nextInt(60); objectIdx++) {
+                testObjects.add(new TestObject(random.nextInt(1800) - 250, random.nextInt(1200) - 250,
+                        random.nextInt(200), random.nextInt(200)));
+            }
+
+            for (int frame = 0; frame < FRAMES; frame++) {
+                for (CollidingGameObject testObject : testObjects) {
+                    testObject.getPosition().right(random.nextInt(21) - 10);
+                    testObject.getPosition().down(random.nextInt(21) - 10);
+                }
+                broadphase.rebuild(testObjects);
+
+                boolean areaFirst = random.nextBoolean();
+                if (areaFirst) {
+                    misses += checkArea(broadphase, testObjects, random);
+                }
+                misses += checkPairs(broadphase, testObjects);
+                if (!areaFirst) {
+                    misses += checkArea(broadphase, testObjects, random);
+                    misses += checkPairs(broadphase, testObjects);
+                }
+            }
+        }
+        return misses;
+    }
+
+    private static long checkPairs(Broadphase broadphase, List<CollidingGameObject> testObjects) {
+        long misses = 0;
+        for (int indexA = 0; indexA < testObjects.size(); indexA++) {
+            int numberOfCandidates = broadphase.findCandidates(indexA);
+            boolean[] isCandidate = new boolean[testObjects.size()];
+            for (int candidateIdx = 0; candidateIdx < numberOfCandidates; candidateIdx++) {
+                isCandidate[broadphase.candidate(candidateIdx)] = true;
+            }
+
+            for (int indexB = indexA + 1; indexB < testObjects.size(); indexB++) {
+                if (testObjects.get(indexA).collidesWith(testObjects.get(indexB)) && !isCandidate[indexB]) {
+                    misses++;
+                }
+            }
+        }
+        return misses;
+    }
+
+    private static long checkArea(Broadphase broadphase, List<CollidingGameObject> testObjects, Random random) {
+        double minX = random.nextDouble() * 1600 - 300;
+        double minY = random.nextDouble() * 1000 - 300;
+        double maxX = minX + random.nextDouble() * 400;
+        double maxY = minY + random.nextDouble() * 400;
+
+        int numberOfCandidates = broadphase.findCandidatesInArea(minX, minY, maxX, maxY);
+        boolean[] isCandidate = new boolean[testObjects.size()];
+        for (int candidateIdx = 0; candidateIdx < numberOfCandidates; candidateIdx++) {
+            isCandidate[broadphase.candidate(candidateIdx)] = true;
+        }
+
+        long misses = 0;
+        for (int objectIdx = 0; objectIdx < testObjects.size(); objectIdx++) {
+            Rectangle bounds = testObjects.get(objectIdx).calculateHitBoxBounds();
+            boolean overlaps = !bounds.isEmpty() && bounds.x <= maxX && minX <= bounds.x + bounds.width
+                    && bounds.y <= maxY && minY <= bounds.y + bounds.height;
+            if (overlaps && !isCandidate[objectIdx]) {
+                misses++;
+            }
+        }
+        return misses;
+    }
+
+    private static class TestObject extends CollidingGameObject {
+        private TestObject(double x, double y, double width, double height) {
+            super(null, null, 0, true, CollisionCategory.ENEMY_SHOT);
+            position.updateCoordinates(x, y);
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public void reactToCollisionWith(CollidingGameObject other) {
+        }
+
+        @Override
+        public void addToCanvas() {
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package thd.game.managers;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares {@link HandleList} with an {@link ArrayList} that is used with identity semantics: an element is only
+ * added if the identical element is not contained, and only the identical element is removed. The elements are
+ * equal strings that are distinct objects, so a comparison by {@code equals} would be noticed. After every random
+ * add, remove or clear both have to have the same contents in the same order.
+ * Prints the number of mismatches and exits with status 1 if there are any.
+ */
+public class HandleListCheck {
+    private static final int TRIALS = 300;
+    private static final int STEPS = 2000;
+
+    public static void main(String[] args) {
+        Random random = new Random(18);
+        long mismatches = 0;
+
+        for (int trial = 0; trial < TRIALS; trial++) {
+            HandleList<String> handleList = new HandleList<>();
+            List<String> identityList = new ArrayList<>();
+            List<String> elements = new ArrayList<>();
+            for (int elementIdx = 0; elementIdx < 80; elementIdx++) {
+                elements.add(new String("element " + elementIdx % 4));
+            }
+
+            for (int step = 0; step < STEPS; step++) {
+                String element = elements.get(random.nextInt(elements.size()));
+                int operation = random.nextInt(100);
+                if (operation < 55) {
+                    boolean added = !containsIdentical(identityList, element);
+                    if (added) {
+                        identityList.add(element);
+                    }
+                    if (handleList.add(element) != added) {
+                        mismatches++;
+                    }
+                } else if (operation < 99) {
+                    int index = indexOfIdentical(identityList, element);
+                    if (index >= 0) {
+                        identityList.remove(index);
+                    }
+                    if (handleList.remove(element) != index >= 0) {
+                        mismatches++;
+                    }
+                } else {
+                    identityList.clear();
+                    handleList.clear();
+                }
+
+                if (handleList.size() != identityList.size()
+                        || handleList.contains(element) != containsIdentical(identityList, element)) {
+                    mismatches++;
+                }
+                // every other step reads by index, which compacts the list, and the others iterate
+                if (step % 2 == 0) {
+                    for (int index = 0; index < identityList.size(); index++) {
+                        if (handleList.get(index) != identityList.get(index)) {
+                            mismatches++;
+                            break;
+                        }
+                    }
+                } else {
+                    Iterator<String> identityIterator = identityList.iterator();
+                    for (String contained : handleList) {
+                        if (contained != identityIterator.next()) {
+                            mismatches++;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        System.out.println("mismatches=" + mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean containsIdentical(List<String> list, String element) {
+        return indexOfIdentical(list, element) >= 0;
+    }
+
+    private static int indexOfIdentical(List<String> list, String element) {
+        for (int index = 0; index < list.size(); index++) {
+            if (list.get(index) == element) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,145 @@
+package thd.game.managers;
+
+import thd.gameobjects.base.CollidingGameObject;
+import thd.gameobjects.base.CollisionCategory;
+import thd.gameobjects.base.RaycastHit;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares {@link CollisionManager#castRay} with a scan over all colliding game objects, for both broadphases.
+ * Game objects are moved, added, removed and change their altitude level between frames.
+ * Prints the number of mismatches and exits with status 1 if there are any.
+ */
+public class RaycastCheck {
+    private static final int TRIALS = 200;
+    private static final int FRAMES = 60;
+    private static final int RAYS_PER_FRAME = 20;
+
+    public static void main(String[] args) {
+        Random random = new Random(12);
+        long mismatches = 0;
+        long rays = 0;
+
+        for (int trial = 0; trial < TRIALS; trial++) {
+            CollisionManager collisionManager = new CollisionManager();
+            List<TestObject> testObjects = new ArrayList<>();
+            for (int objectIdx = 0; objectIdx < 120; objectIdx++) {
+                TestObject testObject = createObject(random);
+                testObjects.add(testObject);
+                collisionManager.addToCollisionManagement(testObject);
+            }
+
+            for (int frame = 0; frame < FRAMES; frame++) {
+                // the game world moves between frames
+                for (TestObject testObject : testObjects) {
+                    testObject.getPosition().right(random.nextDouble() * 6 - 3);
+                    testObject.getPosition().down(random.nextDouble() * 6 - 3);
+                    if (random.nextInt(20) == 0) {
+                        testObject.changeAltitudeLevel(random.nextInt(CollidingGameObject.MAX_ALTITUDE_LEVEL + 1));
+                    }
+                }
+                if (random.nextInt(3) == 0) {
+                    TestObject removed = testObjects.remove(random.nextInt(testObjects.size()));
+                    collisionManager.removeFromCollisionManagement(removed);
+                }
+                if (random.nextInt(3) == 0) {
+                    TestObject added = createObject(random);
+                    testObjects.add(added);
+                    collisionManager.addToCollisionManagement(added);
+                }
+
+                for (int rayIdx = 0; rayIdx < RAYS_PER_FRAME; rayIdx++) {
+                    double originX = random.nextDouble() * 1200 - 100;
+                    double originY = random.nextDouble() * 900 - 100;
+                    double directionX = random.nextDouble() * 20 - 10;
+                    double directionY = random.nextDouble() * 20 - 10;
+                    double maxParameter = random.nextDouble() * 60;
+                    int altitudeLevel = random.nextInt(CollidingGameObject.MAX_ALTITUDE_LEVEL + 1);
+                    int categoryMask = random.nextInt(1 << CollisionCategory.values().length);
+
+                    RaycastHit hit = collisionManager.castRay(originX, originY, directionX, directionY, maxParameter,
+                            altitudeLevel, categoryMask);
+                    double expectedEntry = scanForFirstEntry(testObjects, originX, originY, directionX, directionY,
+                            maxParameter, altitudeLevel, categoryMask);
+                    double entry = hit == null ? Double.POSITIVE_INFINITY : hit.getEntryParameter();
+                    if (Double.compare(entry, expectedEntry) != 0) {
+                        mismatches++;
+                    }
+                    rays++;
+                }
+
+                collisionManager.detectCollisions();
+            }
+        }
+
+        System.out.println("rays=" + rays + " broadphase=" + (GameSettings.USE_SWEEP_AND_PRUNE ? "sweep and prune" : "grid")
+                + " mismatches=" + mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static double scanForFirstEntry(List<TestObject> testObjects, double originX, double originY,
+                                            double directionX, double directionY, double maxParameter,
+                                            int altitudeLevel, int categoryMask) {
+        double firstEntry = Double.POSITIVE_INFINITY;
+        for (TestObject testObject : testObjects) {
+            if (testObject.getAltitudeLevel() == altitudeLevel
+                    && (categoryMask & testObject.getCollisionCategory().bit()) != 0) {
+                firstEntry = Math.min(firstEntry, testObject.calculateRayEntry(originX, originY, directionX,
+                        directionY, maxParameter));
+            }
+        }
+        return firstEntry;
+    }
+
+    private static TestObject createObject(Random random) {
+        CollisionCategory collisionCategory =
+                CollisionCategory.values()[random.nextInt(CollisionCategory.values().length)];
+        boolean isRectangular = random.nextBoolean();
+        TestObject testObject = new TestObject(random.nextInt(CollidingGameObject.MAX_ALTITUDE_LEVEL + 1),
+                isRectangular, collisionCategory);
+        testObject.getPosition().updateCoordinates(random.nextDouble() * 1000, random.nextDouble() * 700);
+
+        if (isRectangular) {
+            testObject.resize(random.nextInt(80), random.nextInt(80));
+        } else {
+            Polygon[] polygons = new Polygon[1 + random.nextInt(2)];
+            for (int polygonIdx = 0; polygonIdx < polygons.length; polygonIdx++) {
+                polygons[polygonIdx] = new Polygon();
+                for (int cornerIdx = 0; cornerIdx < 3 + random.nextInt(4); cornerIdx++) {
+                    polygons[polygonIdx].addPoint(random.nextInt(120) - 60, random.nextInt(120) - 60);
+                }
+            }
+            testObject.setRelativeHitboxPolygons(polygons);
+        }
+        return testObject;
+    }
+
+    private static class TestObject extends CollidingGameObject {
+        private TestObject(int altitudeLevel, boolean isRectangular, CollisionCategory collisionCategory) {
+            super(null, null, altitudeLevel, isRectangular, collisionCategory);
+        }
+
+        private void resize(double width, double height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        private void changeAltitudeLevel(int altitudeLevel) {
+            this.altitudeLevel = altitudeLevel;
+        }
+
+        @Override
+        public void reactToCollisionWith(CollidingGameObject other) {
+        }
+
+        @Override
+        public void addToCanvas() {
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package thd.game.utilities;
+
+import thd.gameobjects.base.GameObject;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+/**
+ * Compares the iteration order of {@link BucketedGameObjects} with the sorted list that it replaced. Game objects
+ * with random distances to the background are added and removed at random, and after every step both have to
+ * return the same game objects in the same order.
+ * Prints the number of mismatches and exits with status 1 if there are any.
+ */
+public class BucketedGameObjectsCheck {
+    private static final int TRIALS = 300;
+    private static final int STEPS = 2000;
+    private static final int MAX_DISTANCE_TO_BACKGROUND = 12;
+
+    public static void main(String[] args) {
+        Random random = new Random(15);
+        long mismatches = 0;
+
+        for (int trial = 0; trial < TRIALS; trial++) {
+            BucketedGameObjects bucketedGameObjects = new BucketedGameObjects();
+            SortedGameObjectsList sortedGameObjects = new SortedGameObjectsList();
+            List<GameObject> containedGameObjects = new ArrayList<>();
+
+            for (int step = 0; step < STEPS; step++) {
+                // removing gets likelier the more game objects there are, so the size keeps changing
+                if (!containedGameObjects.isEmpty() && random.nextInt(60) < containedGameObjects.size()) {
+                    GameObject toRemove = containedGameObjects.remove(random.nextInt(containedGameObjects.size()));
+                    if (!bucketedGameObjects.remove(toRemove) || !sortedGameObjects.removeIdentical(toRemove)) {
+                        mismatches++;
+                    }
+                } else {
+                    GameObject toAdd = new TestObject(random.nextInt(MAX_DISTANCE_TO_BACKGROUND));
+                    containedGameObjects.add(toAdd);
+                    bucketedGameObjects.add(toAdd);
+                    sortedGameObjects.add(toAdd);
+                }
+
+                if (bucketedGameObjects.size() != sortedGameObjects.size()) {
+                    mismatches++;
+                }
+                Iterator<GameObject> sortedIterator = sortedGameObjects.iterator();
+                for (GameObject gameObject : bucketedGameObjects) {
+                    if (!sortedIterator.hasNext() || sortedIterator.next() != gameObject) {
+                        mismatches++;
+                        break;
+                    }
+                }
+            }
+        }
+
+        System.out.println("mismatches=" + mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * The sorted list that was used for the drawing order before, unchanged except for removing by identity.
+     */
+    private static class SortedGameObjectsList extends LinkedList<GameObject> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public boolean add(GameObject toAdd) {
+            // Edge Cases, toAdd is not in the middle of the List
+            if (isEmpty() || toAdd.getDistanceToBackground() < getFirst().getDistanceToBackground()) {
+                addFirst(toAdd);
+                return true;
+            }
+
+            if (toAdd.getDistanceToBackground() >= getLast().getDistanceToBackground()) {
+                addLast(toAdd);
+                return true;
+            }
+
+            ListIterator<GameObject> it = listIterator();
+
+            while (it.hasNext()) {
+                GameObject gameObject = it.next();
+
+                if (gameObject.getDistanceToBackground() >= toAdd.getDistanceToBackground()) {
+                    it.previous();
+                    it.add(toAdd);
+                    return true;
+                }
+            }
+
+            return false; // should not happen
+        }
+
+        private boolean removeIdentical(GameObject toRemove) {
+            return removeIf(gameObject -> gameObject == toRemove);
+        }
+    }
+
+    private static class TestObject extends GameObject {
+        private TestObject(int distanceToBackground) {
+            super(null, null);
+            this.distanceToBackground = (char) distanceToBackground;
+        }
+
+        @Override
+        public void addToCanvas() {
+        }
+    }
+}
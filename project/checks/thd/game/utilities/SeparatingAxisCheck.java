@@ -0,0 +1,126 @@
+package thd.game.utilities;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Area;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Compares the separating axis tests with the intersection of two {@link Area}s, which is what
+ * {@link thd.gameobjects.base.CollidingGameObject} uses for hitboxes that are not convex.
+ * Random convex polygons are placed on a small grid, so that many of them only touch each other.
+ * Prints the number of mismatches and exits with status 1 if there are any.
+ */
+public class SeparatingAxisCheck {
+    private static final int COMPARISONS = 150_000;
+    private static final int GRID_SIZE = 12;
+
+    public static void main(String[] args) {
+        Random random = new Random(5);
+        long mismatches = 0;
+        long overlaps = 0;
+
+        for (int comparison = 0; comparison < COMPARISONS; comparison++) {
+            Polygon polygonA = createConvexPolygon(random);
+            Polygon polygonB = createConvexPolygon(random);
+            int offsetX = random.nextInt(2 * GRID_SIZE + 1) - GRID_SIZE;
+            int offsetY = random.nextInt(2 * GRID_SIZE + 1) - GRID_SIZE;
+
+            if (!SeparatingAxisTest.isConvex(polygonA.xpoints, polygonA.ypoints, polygonA.npoints)) {
+                mismatches++;
+            }
+
+            Area areaB = new Area(polygonB);
+            areaB.transform(AffineTransform.getTranslateInstance(offsetX, offsetY));
+            boolean expected = overlap(new Area(polygonA), areaB);
+            boolean actual = SeparatingAxisTest.convexPolygonsOverlap(
+                    polygonA.xpoints, polygonA.ypoints, polygonA.npoints,
+                    polygonB.xpoints, polygonB.ypoints, polygonB.npoints, offsetX, offsetY);
+            if (actual != expected) {
+                mismatches++;
+            }
+            if (expected) {
+                overlaps++;
+            }
+
+            Rectangle rectangle = new Rectangle(random.nextInt(GRID_SIZE) - 2, random.nextInt(GRID_SIZE) - 2,
+                    random.nextInt(GRID_SIZE / 2), random.nextInt(GRID_SIZE / 2));
+            expected = overlap(new Area(polygonA), new Area(rectangle));
+            actual = SeparatingAxisTest.convexPolygonOverlapsRectangle(
+                    polygonA.xpoints, polygonA.ypoints, polygonA.npoints,
+                    rectangle.x, rectangle.y, rectangle.width, rectangle.height);
+            if (actual != expected) {
+                mismatches++;
+            }
+        }
+
+        System.out.println("comparisons=" + 2 * COMPARISONS + " overlaps=" + overlaps + " mismatches=" + mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean overlap(Area area1, Area area2) {
+        area1.intersect(area2);
+        return !area1.isEmpty();
+    }
+
+    /**
+     * Creates the convex hull of a few random grid points. Both orientations are used.
+     */
+    private static Polygon createConvexPolygon(Random random) {
+        Polygon hull;
+        do {
+            int numberOfPoints = 3 + random.nextInt(6);
+            Point[] points = new Point[numberOfPoints];
+            for (int pointIdx = 0; pointIdx < numberOfPoints; pointIdx++) {
+                points[pointIdx] = new Point(random.nextInt(GRID_SIZE), random.nextInt(GRID_SIZE));
+            }
+            hull = calculateConvexHull(points);
+        } while (hull.npoints < 3);
+
+        if (random.nextBoolean()) {
+            for (int i = 0; i < hull.npoints / 2; i++) {
+                swap(hull.xpoints, i, hull.npoints - 1 - i);
+                swap(hull.ypoints, i, hull.npoints - 1 - i);
+            }
+        }
+        return hull;
+    }
+
+    private static Polygon calculateConvexHull(Point[] points) {
+        Arrays.sort(points, (p1, p2) -> p1.x != p2.x ? Integer.compare(p1.x, p2.x) : Integer.compare(p1.y, p2.y));
+        Point[] hull = new Point[2 * points.length];
+        int size = 0;
+
+        // monotone chain, lower hull and then upper hull, collinear points are dropped
+        for (int pass = 0; pass < 2; pass++) {
+            int start = size;
+            for (int i = 0; i < points.length; i++) {
+                Point point = points[pass == 0 ? i : points.length - 1 - i];
+                while (size >= start + 2 && cross(hull[size - 2], hull[size - 1], point) <= 0) {
+                    size--;
+                }
+                hull[size++] = point;
+            }
+            size--;
+        }
+
+        Polygon polygon = new Polygon();
+        for (int i = 0; i < size; i++) {
+            polygon.addPoint(hull[i].x, hull[i].y);
+        }
+        return polygon;
+    }
+
+    private static long cross(Point origin, Point a, Point b) {
+        return (long) (a.x - origin.x) * (b.y - origin.y) - (long) (a.y - origin.y) * (b.x - origin.x);
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+}
@@ -0,0 +1,179 @@
+package thd.game.utilities;
+
+import thd.gameobjects.base.BandHitbox;
+import thd.gameobjects.base.CollidingGameObject;
+import thd.gameobjects.base.CollisionCategory;
+import thd.gameobjects.movable.WallRow;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Area;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Compares the band hitboxes of a {@link WallRow} with its projected hitbox polygons and with each other. Walls are
+ * built from random descriptions, and every row is tested against random rectangles with its
+ * {@link thd.gameobjects.base.BlockMaskHitbox}, with its {@link thd.gameobjects.base.IntervalHitbox} and with the
+ * {@link Area} of its polygons, which is independent of the collision tests. Both band hitboxes use the exact
+ * projection while the polygons have their corners truncated to whole pixels, so their results may differ from the
+ * polygons, but only for rectangles that come closer than one pixel to the edge of the row. The two band hitboxes describe the same area and have to agree on every rectangle, and also on
+ * random points and rectangles with fractional coordinates.
+ * Prints the number of differences and mismatches and exits with status 1 if there are any mismatches.
+ */
+public class WallRowHitboxCheck {
+    private static final int WALLS = 300;
+    private static final int RECTANGLES_PER_ROW = 200;
+    private static final int MARGIN_IN_PIXEL = 1;
+
+    public static void main(String[] args) {
+        Random random = new Random(13);
+        long comparisons = 0;
+        long overlaps = 0;
+        long differences = 0;
+        long mismatches = 0;
+
+        for (int wall = 0; wall < WALLS; wall++) {
+            WallBlockGraphicUtils.DynamicWall dynamicWall =
+                    WallBlockGraphicUtils.generateDynamicWall(createWallDescription(random));
+            double spawnLineInter = random.nextDouble();
+
+            for (int row = 0; row < dynamicWall.wallBlockImageInRows.length; row++) {
+                // the rows are stacked like in a Wall, the description starts with the top row
+                int descriptionRow = dynamicWall.wallBlockImageInRows.length - row - 1;
+                String blockGraphic = dynamicWall.wallBlockImageInRows[descriptionRow];
+                ArrayList<int[]> hitboxIndices = dynamicWall.hitboxIndicesInRows.get(descriptionRow);
+                BandHitbox maskHitbox = WallBuildingService.calcBlockMaskHitbox(hitboxIndices);
+                BandHitbox intervalHitbox = WallBuildingService.calcIntervalHitbox(hitboxIndices);
+
+                WallRow maskRow = new WallRow(null, null, 0, spawnLineInter, row, blockGraphic, hitboxIndices,
+                        maskHitbox);
+                WallRow intervalRow = new WallRow(null, null, 0, spawnLineInter, row, blockGraphic, hitboxIndices,
+                        intervalHitbox);
+                PolygonRow polygonRow = new PolygonRow(spawnLineInter, row, blockGraphic, hitboxIndices);
+                Rectangle bounds = polygonRow.calculateHitBoxBounds();
+                TestRectangle rectangle = new TestRectangle(polygonRow.getAltitudeLevel());
+
+                for (int rectangleIdx = 0; rectangleIdx < RECTANGLES_PER_ROW; rectangleIdx++) {
+                    int x = bounds.x - 20 + random.nextInt(bounds.width + 40);
+                    int y = bounds.y - 20 + random.nextInt(bounds.height + 40);
+                    int width = 1 + random.nextInt(40);
+                    int height = 1 + random.nextInt(40);
+
+                    boolean maskResult = rectangle.moveTo(x, y, width, height).collidesWith(maskRow);
+                    boolean intervalResult = rectangle.collidesWith(intervalRow);
+                    boolean polygonResult = polygonRow.overlaps(x, y, width, height);
+                    comparisons++;
+                    if (polygonResult) {
+                        overlaps++;
+                    }
+                    if (maskResult != intervalResult) {
+                        mismatches++;
+                    }
+                    if (intervalResult == polygonResult) {
+                        continue;
+                    }
+                    differences++;
+
+                    // the polygons have to overlap the grown rectangle, or miss the shrunk rectangle, respectively
+                    boolean explained = intervalResult
+                            ? polygonRow.overlaps(x - MARGIN_IN_PIXEL, y - MARGIN_IN_PIXEL,
+                            width + 2 * MARGIN_IN_PIXEL, height + 2 * MARGIN_IN_PIXEL)
+                            : !polygonRow.overlaps(x + MARGIN_IN_PIXEL, y + MARGIN_IN_PIXEL,
+                            width - 2 * MARGIN_IN_PIXEL, height - 2 * MARGIN_IN_PIXEL);
+                    if (!explained) {
+                        mismatches++;
+                    }
+                }
+
+                mismatches += compareBandHitboxes(maskHitbox, intervalHitbox, bounds, random);
+            }
+        }
+
+        System.out.println("comparisons=" + comparisons + " overlaps=" + overlaps + " differences=" + differences
+                + " mismatches=" + mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static long compareBandHitboxes(BandHitbox maskHitbox, BandHitbox intervalHitbox, Rectangle bounds,
+                                            Random random) {
+        long mismatches = 0;
+        for (int testIdx = 0; testIdx < RECTANGLES_PER_ROW; testIdx++) {
+            // relative to the row, the band starts at the origin
+            double x = random.nextDouble() * (bounds.width + 40) - 20;
+            double y = random.nextDouble() * (bounds.height + 40) - 20;
+            double width = random.nextDouble() * 40;
+            double height = random.nextDouble() * 40;
+            if (maskHitbox.contains(x, y) != intervalHitbox.contains(x, y)
+                    || maskHitbox.overlapsRectangle(x, y, width, height)
+                    != intervalHitbox.overlapsRectangle(x, y, width, height)) {
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    private static String createWallDescription(Random random) {
+        int rows = 1 + random.nextInt(9);
+        int columns = 4 + random.nextInt(33);
+        StringBuilder wallDescription = new StringBuilder();
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                wallDescription.append(random.nextInt(4) == 0 ? ' ' : 'x');
+            }
+            wallDescription.append('\n');
+        }
+        return wallDescription.toString();
+    }
+
+    /**
+     * A row without a band hitbox that keeps the {@link Area} of its projected polygons.
+     */
+    private static class PolygonRow extends WallRow {
+        private Area relativeArea;
+
+        private PolygonRow(double spawnLineInter, int row, String blockGraphic, ArrayList<int[]> hitboxIndices) {
+            super(null, null, 0, spawnLineInter, row, blockGraphic, hitboxIndices, null);
+        }
+
+        @Override
+        public void setRelativeHitboxPolygons(Polygon[] relativeHitboxPolygons) {
+            super.setRelativeHitboxPolygons(relativeHitboxPolygons);
+            relativeArea = new Area();
+            for (Polygon hitbox : relativeHitboxPolygons) {
+                relativeArea.add(new Area(hitbox));
+            }
+        }
+
+        private boolean overlaps(int x, int y, int width, int height) {
+            // the hitbox offsets of a row are 0, so its polygons are translated by its position
+            Area area = relativeArea.createTransformedArea(
+                    AffineTransform.getTranslateInstance(getPosition().getX(), getPosition().getY()));
+            area.intersect(new Area(new Rectangle(x, y, width, height)));
+            return !area.isEmpty();
+        }
+    }
+
+    private static class TestRectangle extends CollidingGameObject {
+        private TestRectangle(int altitudeLevel) {
+            super(null, null, altitudeLevel, true, CollisionCategory.PLAYER_SHOT);
+        }
+
+        private TestRectangle moveTo(int x, int y, int width, int height) {
+            position.updateCoordinates(x, y);
+            this.width = width;
+            this.height = height;
+            return this;
+        }
+
+        @Override
+        public void reactToCollisionWith(CollidingGameObject other) {
+        }
+
+        @Override
+        public void addToCanvas() {
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package thd.gameobjects.base;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Compares {@link PositionStore#scroll(double)} with {@link PositionStore#shift(double)}. Game objects are attached,
+ * detached, started, retargeted and moved from outside at random between the frames.
+ * The positions have to agree to within floating point error, and every game object has to arrive at its target
+ * in the same frame in both modes.
+ * Prints the largest distance and the number of mismatches and exits with status 1 if there are any.
+ */
+public class PositionStoreScrollCheck {
+    private static final int TRIALS = 300;
+    private static final int FRAMES = 600;
+    private static final int NUMBER_OF_OBJECTS = 80;
+    private static final double SHIFT_IN_PIXEL = 3;
+    private static final double MAX_DISTANCE_IN_PIXEL = 1e-9;
+
+    public static void main(String[] args) {
+        Random random = new Random(11);
+        double maxDistance = 0;
+        long mismatches = 0;
+
+        for (int trial = 0; trial < TRIALS; trial++) {
+            PositionStore shiftedStore = new PositionStore();
+            PositionStore scrolledStore = new PositionStore(true, false);
+            List<GameObject> shiftedObjects = new ArrayList<>();
+            List<GameObject> scrolledObjects = new ArrayList<>();
+            Set<Integer> attachedObjects = new HashSet<>();
+            for (int objectIdx = 0; objectIdx < NUMBER_OF_OBJECTS; objectIdx++) {
+                double x = random.nextDouble() * 800;
+                double y = random.nextDouble() * 600;
+                double targetX = random.nextDouble() * 800;
+                double targetY = random.nextDouble() * 600;
+                shiftedObjects.add(new TestObject(x, y, targetX, targetY));
+                scrolledObjects.add(new TestObject(x, y, targetX, targetY));
+            }
+
+            for (int frame = 0; frame < FRAMES; frame++) {
+                int objectIdx = random.nextInt(NUMBER_OF_OBJECTS);
+                GameObject shiftedObject = shiftedObjects.get(objectIdx);
+                GameObject scrolledObject = scrolledObjects.get(objectIdx);
+                switch (random.nextInt(8)) {
+                    case 0:
+                        if (attachedObjects.add(objectIdx)) {
+                            boolean isShifted = random.nextBoolean();
+                            shiftedStore.attach(shiftedObject, isShifted);
+                            scrolledStore.attach(scrolledObject, isShifted);
+                        }
+                        break;
+                    case 1:
+                        shiftedStore.detach(shiftedObject);
+                        scrolledStore.detach(scrolledObject);
+                        attachedObjects.remove(objectIdx);
+                        break;
+                    case 2:
+                        shiftedStore.startShifting(shiftedObject);
+                        scrolledStore.startShifting(scrolledObject);
+                        break;
+                    case 3:
+                        double targetX = random.nextDouble() * 800;
+                        shiftedObject.targetPosition.updateCoordinates(targetX, 7);
+                        scrolledObject.targetPosition.updateCoordinates(targetX, 7);
+                        break;
+                    case 4:
+                        shiftedObject.position.moveToPosition(new Position(0, 0), 2);
+                        scrolledObject.position.moveToPosition(new Position(0, 0), 2);
+                        break;
+                    default:
+                        break;
+                }
+
+                shiftedStore.shift(SHIFT_IN_PIXEL);
+                scrolledStore.scroll(SHIFT_IN_PIXEL);
+
+                for (int checkedIdx = 0; checkedIdx < NUMBER_OF_OBJECTS; checkedIdx++) {
+                    GameObject shifted = shiftedObjects.get(checkedIdx);
+                    GameObject scrolled = scrolledObjects.get(checkedIdx);
+                    double distance = shifted.position.distance(scrolled.position);
+                    maxDistance = Math.max(maxDistance, distance);
+                    if (distance > MAX_DISTANCE_IN_PIXEL
+                            || shifted.position.similarTo(shifted.targetPosition)
+                            != scrolled.position.similarTo(scrolled.targetPosition)) {
+                        mismatches++;
+                    }
+                }
+            }
+        }
+
+        System.out.println("maxDistance=" + maxDistance + " mismatches=" + mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static class TestObject extends GameObject {
+        private TestObject(double x, double y, double targetX, double targetY) {
+            super(null, null);
+            position.updateCoordinates(x, y);
+            targetPosition.updateCoordinates(targetX, targetY);
+        }
+
+        @Override
+        public void addToCanvas() {
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package thd.gameobjects.base;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compares {@link PositionStore#shift(double)} with moving plain {@link Position}s by
+ * {@link Position#moveToPosition(Position, double)}, which is how shiftable game objects were moved before.
+ * Game objects are attached, detached, started, retargeted and moved from outside at random between the shifts.
+ * The coordinates have to be identical, not only close.
+ * Prints the number of mismatches and exits with status 1 if there are any.
+ */
+public class PositionStoreShiftCheck {
+    private static final int TRIALS = 300;
+    private static final int FRAMES = 400;
+    private static final int NUMBER_OF_OBJECTS = 120;
+    private static final double SHIFT_IN_PIXEL = 3;
+
+    public static void main(String[] args) {
+        Random random = new Random(5);
+        long mismatches = 0;
+
+        for (int trial = 0; trial < TRIALS; trial++) {
+            PositionStore store = new PositionStore();
+            List<TestObject> testObjects = new ArrayList<>();
+            Map<TestObject, Boolean> shiftedObjects = new HashMap<>();
+            for (int objectIdx = 0; objectIdx < NUMBER_OF_OBJECTS; objectIdx++) {
+                testObjects.add(new TestObject(random));
+            }
+
+            for (int frame = 0; frame < FRAMES; frame++) {
+                TestObject testObject = testObjects.get(random.nextInt(NUMBER_OF_OBJECTS));
+                switch (random.nextInt(6)) {
+                    case 0:
+                        if (!shiftedObjects.containsKey(testObject)) {
+                            boolean isShifted = random.nextBoolean();
+                            store.attach(testObject, isShifted);
+                            shiftedObjects.put(testObject, isShifted);
+                        }
+                        break;
+                    case 1:
+                        store.detach(testObject);
+                        shiftedObjects.remove(testObject);
+                        break;
+                    case 2:
+                        store.startShifting(testObject);
+                        shiftedObjects.replace(testObject, true);
+                        break;
+                    case 3:
+                        double targetX = random.nextDouble() * 800;
+                        testObject.targetPosition.updateCoordinates(targetX, 5);
+                        testObject.expectedTargetPosition.updateCoordinates(targetX, 5);
+                        break;
+                    case 4:
+                        testObject.position.right(2.5);
+                        testObject.expectedPosition.right(2.5);
+                        break;
+                    default:
+                        break;
+                }
+
+                store.shift(SHIFT_IN_PIXEL);
+                for (Map.Entry<TestObject, Boolean> shiftedObject : shiftedObjects.entrySet()) {
+                    if (shiftedObject.getValue()) {
+                        TestObject shifted = shiftedObject.getKey();
+                        shifted.expectedPosition.moveToPosition(shifted.expectedTargetPosition, SHIFT_IN_PIXEL);
+                    }
+                }
+
+                for (TestObject checked : testObjects) {
+                    if (!checked.position.equals(checked.expectedPosition)
+                            || !checked.targetPosition.equals(checked.expectedTargetPosition)) {
+                        mismatches++;
+                    }
+                }
+            }
+        }
+
+        System.out.println("mismatches=" + mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static class TestObject extends GameObject {
+        private final Position expectedPosition;
+        private final Position expectedTargetPosition;
+
+        private TestObject(Random random) {
+            super(null, null);
+            position.updateCoordinates(random.nextDouble() * 800, random.nextDouble() * 600);
+            targetPosition.updateCoordinates(random.nextDouble() * 800, random.nextDouble() * 600);
+            expectedPosition = new Position(position);
+            expectedTargetPosition = new Position(targetPosition);
+        }
+
+        @Override
+        public void addToCanvas() {
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package thd.gameobjects.base;
+
+import thd.game.managers.GameSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares {@link PositionStore#moveTo(double, double)} with {@link PositionStore#shift(double)} at a steady frame
+ * rate. Game objects start to move in random frames, and one of them is moved from outside halfway through.
+ * The positions have to agree to within floating point error, and every game object has to arrive at its target
+ * in the same frame in both modes.
+ * Prints the largest distance and the number of mismatches and exits with status 1 if there are any.
+ */
+public class PositionStoreTimeCheck {
+    private static final int TRIALS = 200;
+    private static final int FRAMES = 500;
+    private static final int NUMBER_OF_OBJECTS = 50;
+    private static final double FRAME_DURATION_IN_MILLISECONDS =
+            GameSettings.SPEED_IN_PIXEL / GameSettings.SPEED_IN_PIXEL_PER_MILLISECOND;
+    private static final double MAX_DISTANCE_IN_PIXEL = 1e-9;
+
+    public static void main(String[] args) {
+        Random random = new Random(9);
+        double maxDistance = 0;
+        long mismatches = 0;
+
+        for (int trial = 0; trial < TRIALS; trial++) {
+            PositionStore shiftedStore = new PositionStore();
+            PositionStore timedStore = new PositionStore(false, true);
+            List<GameObject> shiftedObjects = new ArrayList<>();
+            List<GameObject> timedObjects = new ArrayList<>();
+            int[] startFrames = new int[NUMBER_OF_OBJECTS];
+            for (int objectIdx = 0; objectIdx < NUMBER_OF_OBJECTS; objectIdx++) {
+                double x = random.nextDouble() * 800;
+                double y = random.nextDouble() * 600;
+                double targetX = random.nextDouble() * 800;
+                double targetY = random.nextDouble() * 600;
+                shiftedObjects.add(new TestObject(x, y, targetX, targetY));
+                timedObjects.add(new TestObject(x, y, targetX, targetY));
+                shiftedStore.attach(shiftedObjects.get(objectIdx), false);
+                timedStore.attach(timedObjects.get(objectIdx), false);
+                startFrames[objectIdx] = 1 + random.nextInt(100);
+            }
+
+            for (int frame = 1; frame <= FRAMES; frame++) {
+                double gameTime = frame * FRAME_DURATION_IN_MILLISECONDS;
+                for (int objectIdx = 0; objectIdx < NUMBER_OF_OBJECTS; objectIdx++) {
+                    if (startFrames[objectIdx] == frame) {
+                        // the first step is made in the frame of the activation
+                        shiftedStore.startShifting(shiftedObjects.get(objectIdx));
+                        timedStore.startShifting(timedObjects.get(objectIdx), gameTime - FRAME_DURATION_IN_MILLISECONDS);
+                    }
+                }
+                if (frame == FRAMES / 2) {
+                    shiftedObjects.get(3).position.right(5);
+                    timedObjects.get(3).position.right(5);
+                }
+
+                shiftedStore.shift(GameSettings.SPEED_IN_PIXEL);
+                timedStore.moveTo(gameTime, GameSettings.SPEED_IN_PIXEL_PER_MILLISECOND);
+
+                for (int objectIdx = 0; objectIdx < NUMBER_OF_OBJECTS; objectIdx++) {
+                    GameObject shiftedObject = shiftedObjects.get(objectIdx);
+                    GameObject timedObject = timedObjects.get(objectIdx);
+                    double distance = shiftedObject.position.distance(timedObject.position);
+                    maxDistance = Math.max(maxDistance, distance);
+                    if (distance > MAX_DISTANCE_IN_PIXEL
+                            || shiftedObject.position.similarTo(shiftedObject.targetPosition)
+                            != timedObject.position.similarTo(timedObject.targetPosition)) {
+                        mismatches++;
+                    }
+                }
+            }
+        }
+
+        System.out.println("maxDistance=" + maxDistance + " mismatches=" + mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static class TestObject extends GameObject {
+        private TestObject(double x, double y, double targetX, double targetY) {
+            super(null, null);
+            position.updateCoordinates(x, y);
+            targetPosition.updateCoordinates(targetX, targetY);
+        }
+
+        @Override
+        public void addToCanvas() {
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package thd.game.managers;
+
+import thd.gameobjects.base.ActivatableGameObject;
+import thd.gameobjects.base.GameObject;
+
+import java.util.Arrays;
+
+/**
+ * A min-heap of GameObjects that are activated by time, ordered by their spawn delay. Only the GameObject with the
+ * smallest spawn delay has to be asked whether it is activated: if it is not, no other GameObject is either. A frame
+ * therefore only costs as much as the number of GameObjects that are due, not the number of pending GameObjects.
+ * GameObjects with the same spawn delay are activated in the order in which they were added.
+ *
+ * <p>Only GameObjects whose {@link ActivatableGameObject#tryToActivate} with {@code null} returns true as soon as the
+ * game time has passed their spawn delay can be added.</p>
+ */
+final class ActivationQueue {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Entry[] heap;
+    private int size;
+    private long nextSequenceNumber;
+
+    ActivationQueue() {
+        heap = new Entry[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds a GameObject that is activated by time.
+     *
+     * @param gameObject an {@link ActivatableGameObject} that is activated by its spawn delay
+     */
+    void add(GameObject gameObject) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        heap[size] = new Entry(gameObject, nextSequenceNumber++);
+        siftUp(size++);
+    }
+
+    /**
+     * Removes and returns the next GameObject if it is activated now.
+     *
+     * @return the activated GameObject, or null if no GameObject is due
+     */
+    GameObject pollActivated() {
+        if (size == 0 || !((ActivatableGameObject<?>) heap[0].gameObject).tryToActivate(null)) {
+            return null;
+        }
+
+        GameObject activated = heap[0].gameObject;
+        heap[0] = heap[--size];
+        heap[size] = null;
+        if (size > 0) {
+            siftDown(0);
+        }
+        return activated;
+    }
+
+    void clear() {
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        Entry entry = heap[index];
+        while (index > 0) {
+            int parentIndex = (index - 1) / 2;
+            if (!entry.isBefore(heap[parentIndex])) {
+                break;
+            }
+            heap[index] = heap[parentIndex];
+            index = parentIndex;
+        }
+        heap[index] = entry;
+    }
+
+    private void siftDown(int index) {
+        Entry entry = heap[index];
+        while (2 * index + 1 < size) {
+            int childIndex = 2 * index + 1;
+            if (childIndex + 1 < size && heap[childIndex + 1].isBefore(heap[childIndex])) {
+                childIndex++;
+            }
+            if (!heap[childIndex].isBefore(entry)) {
+                break;
+            }
+            heap[index] = heap[childIndex];
+            index = childIndex;
+        }
+        heap[index] = entry;
+    }
+
+    private static final class Entry {
+        private final GameObject gameObject;
+        // cached, so that comparing two entries does not have to go through the GameObjects
+        private final int spawnDelayInMilis;
+        private final long sequenceNumber;
+
+        private Entry(GameObject gameObject, long sequenceNumber) {
+            this.gameObject = gameObject;
+            this.spawnDelayInMilis = gameObject.getSpawnDelayInMilis();
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        private boolean isBefore(Entry other) {
+            if (spawnDelayInMilis != other.spawnDelayInMilis) {
+                return spawnDelayInMilis < other.spawnDelayInMilis;
+            }
+            return sequenceNumber < other.sequenceNumber;
+        }
+    }
+}
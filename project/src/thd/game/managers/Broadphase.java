@@ -0,0 +1,50 @@
+package thd.game.managers;
+
+import thd.gameobjects.base.CollidingGameObject;
+
+import java.util.List;
+
+/**
+ * A broadphase cheaply finds the pairs of {@link CollidingGameObject}s that might collide, so that only these have to
+ * be checked with {@link CollidingGameObject#collidesWith(CollidingGameObject)}.
+ * A broadphase may never miss a pair whose hitbox bounds overlap.
+ */
+interface Broadphase {
+
+    /**
+     * Registers all given game objects by the current bounds of their hitboxes.
+     *
+     * @param collidingGameObjects the game objects in the order in which collisions should be reported
+     */
+    void rebuild(List<CollidingGameObject> collidingGameObjects);
+
+    /**
+     * Collects all objects with a higher index that might collide with the object at the given index.
+     * The candidates are sorted ascending, which keeps the order of the former pairwise check.
+     *
+     * @param objectIdx index of the object in the list passed to {@link #rebuild(List)}
+     * @return the number of candidates, accessible via {@link #candidate(int)}
+     */
+    int findCandidates(int objectIdx);
+
+    /**
+     * Collects all objects whose hitbox bounds, as registered by the last {@link #rebuild(List)}, might overlap the
+     * given area. The candidates are sorted ascending.
+     *
+     * @param minX smallest x-coordinate of the area
+     * @param minY smallest y-coordinate of the area
+     * @param maxX largest x-coordinate of the area
+     * @param maxY largest y-coordinate of the area
+     * @return the number of candidates, accessible via {@link #candidate(int)}
+     */
+    int findCandidatesInArea(double minX, double minY, double maxX, double maxY);
+
+    /**
+     * Returns a candidate found by the last call of {@link #findCandidates(int)} or
+     * {@link #findCandidatesInArea(double, double, double, double)}.
+     *
+     * @param candidateIdx index between 0 and the number of candidates
+     * @return the index of the candidate in the list passed to {@link #rebuild(List)}
+     */
+    int candidate(int candidateIdx);
+}
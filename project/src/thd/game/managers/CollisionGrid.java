@@ -0,0 +1,156 @@
+package thd.game.managers;
+
+import thd.game.utilities.GameView;
+import thd.gameobjects.base.CollidingGameObject;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A uniform grid over the screen that serves as broadphase for the {@link CollisionManager}.
+ * Every {@link CollidingGameObject} is registered in all cells that its hitbox bounds overlap, so only objects
+ * that share at least one cell have to be checked with {@link CollidingGameObject#collidesWith(CollidingGameObject)}.
+ * Objects outside the screen are clamped into the border cells.
+ */
+class CollisionGrid implements Broadphase {
+    private static final int CELL_SIZE_IN_PIXEL = 128;
+    private static final int COLUMNS = Math.floorDiv(GameView.WIDTH - 1, CELL_SIZE_IN_PIXEL) + 1;
+    private static final int ROWS = Math.floorDiv(GameView.HEIGHT - 1, CELL_SIZE_IN_PIXEL) + 1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int[][] cellMembers;
+    private final int[] cellSizes;
+
+    // cell range of each registered object, indexed like the list passed to rebuild()
+    private int[] firstColumn;
+    private int[] lastColumn;
+    private int[] firstRow;
+    private int[] lastRow;
+
+    private int[] visitedStamps;
+    private int currentStamp;
+    private int[] candidates;
+    private int numberOfCandidates;
+
+    CollisionGrid() {
+        cellMembers = new int[COLUMNS * ROWS][INITIAL_CAPACITY];
+        cellSizes = new int[COLUMNS * ROWS];
+        allocateObjectArrays(INITIAL_CAPACITY);
+    }
+
+    @Override
+    public void rebuild(List<CollidingGameObject> collidingGameObjects) {
+        Arrays.fill(cellSizes, 0);
+        if (collidingGameObjects.size() > firstColumn.length) {
+            allocateObjectArrays(Math.max(collidingGameObjects.size(), firstColumn.length * 2));
+        }
+
+        for (int objectIdx = 0; objectIdx < collidingGameObjects.size(); objectIdx++) {
+            Rectangle bounds = collidingGameObjects.get(objectIdx).calculateHitBoxBounds();
+
+            if (bounds.width <= 0 || bounds.height <= 0) {
+                // an empty hitbox can not collide with anything
+                firstColumn[objectIdx] = 0;
+                lastColumn[objectIdx] = -1;
+                firstRow[objectIdx] = 0;
+                lastRow[objectIdx] = -1;
+                continue;
+            }
+
+            firstColumn[objectIdx] = clampColumn(Math.floorDiv(bounds.x, CELL_SIZE_IN_PIXEL));
+            lastColumn[objectIdx] = clampColumn(Math.floorDiv(bounds.x + bounds.width - 1, CELL_SIZE_IN_PIXEL));
+            firstRow[objectIdx] = clampRow(Math.floorDiv(bounds.y, CELL_SIZE_IN_PIXEL));
+            lastRow[objectIdx] = clampRow(Math.floorDiv(bounds.y + bounds.height - 1, CELL_SIZE_IN_PIXEL));
+
+            for (int row = firstRow[objectIdx]; row <= lastRow[objectIdx]; row++) {
+                for (int column = firstColumn[objectIdx]; column <= lastColumn[objectIdx]; column++) {
+                    addToCell(row * COLUMNS + column, objectIdx);
+                }
+            }
+        }
+    }
+
+    @Override
+    public int findCandidates(int objectIdx) {
+        currentStamp++;
+        numberOfCandidates = 0;
+
+        for (int row = firstRow[objectIdx]; row <= lastRow[objectIdx]; row++) {
+            for (int column = firstColumn[objectIdx]; column <= lastColumn[objectIdx]; column++) {
+                int cellIdx = row * COLUMNS + column;
+                int[] members = cellMembers[cellIdx];
+
+                for (int memberIdx = 0; memberIdx < cellSizes[cellIdx]; memberIdx++) {
+                    int other = members[memberIdx];
+                    if (other > objectIdx && visitedStamps[other] != currentStamp) {
+                        visitedStamps[other] = currentStamp;
+                        candidates[numberOfCandidates++] = other;
+                    }
+                }
+            }
+        }
+
+        Arrays.sort(candidates, 0, numberOfCandidates);
+        return numberOfCandidates;
+    }
+
+    @Override
+    public int findCandidatesInArea(double minX, double minY, double maxX, double maxY) {
+        currentStamp++;
+        numberOfCandidates = 0;
+
+        int areaFirstColumn = clampColumn((int) Math.floor(minX / CELL_SIZE_IN_PIXEL));
+        int areaLastColumn = clampColumn((int) Math.floor(maxX / CELL_SIZE_IN_PIXEL));
+        int areaFirstRow = clampRow((int) Math.floor(minY / CELL_SIZE_IN_PIXEL));
+        int areaLastRow = clampRow((int) Math.floor(maxY / CELL_SIZE_IN_PIXEL));
+
+        for (int row = areaFirstRow; row <= areaLastRow; row++) {
+            for (int column = areaFirstColumn; column <= areaLastColumn; column++) {
+                int cellIdx = row * COLUMNS + column;
+                int[] members = cellMembers[cellIdx];
+
+                for (int memberIdx = 0; memberIdx < cellSizes[cellIdx]; memberIdx++) {
+                    int other = members[memberIdx];
+                    if (visitedStamps[other] != currentStamp) {
+                        visitedStamps[other] = currentStamp;
+                        candidates[numberOfCandidates++] = other;
+                    }
+                }
+            }
+        }
+
+        Arrays.sort(candidates, 0, numberOfCandidates);
+        return numberOfCandidates;
+    }
+
+    @Override
+    public int candidate(int candidateIdx) {
+        return candidates[candidateIdx];
+    }
+
+    private void addToCell(int cellIdx, int objectIdx) {
+        if (cellSizes[cellIdx] == cellMembers[cellIdx].length) {
+            cellMembers[cellIdx] = Arrays.copyOf(cellMembers[cellIdx], cellMembers[cellIdx].length * 2);
+        }
+        cellMembers[cellIdx][cellSizes[cellIdx]++] = objectIdx;
+    }
+
+    private void allocateObjectArrays(int capacity) {
+        firstColumn = new int[capacity];
+        lastColumn = new int[capacity];
+        firstRow = new int[capacity];
+        lastRow = new int[capacity];
+        visitedStamps = new int[capacity];
+        candidates = new int[capacity];
+        currentStamp = 0;
+    }
+
+    private static int clampColumn(int column) {
+        return Math.max(0, Math.min(COLUMNS - 1, column));
+    }
+
+    private static int clampRow(int row) {
+        return Math.max(0, Math.min(ROWS - 1, row));
+    }
+}
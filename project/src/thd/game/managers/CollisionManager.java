@@ -1,56 +1,371 @@
 package thd.game.managers;
 
 import thd.gameobjects.base.CollidingGameObject;
+import thd.gameobjects.base.CollisionCategory;
 import thd.gameobjects.base.GameObject;
+import thd.gameobjects.base.RaycastHit;
 
-import java.util.LinkedList;
+import java.awt.*;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 class CollisionManager {
 
     private final List<CollidingGameObject> collidingGameObjects;
+    private final List<List<CollidingGameObject>> altitudeLayers;
+    private final boolean[] outdatedAltitudeLayers;
+    private final List<Broadphase> broadphases;
+    // a broadphase is outdated as soon as game objects may have moved or its altitude layer changed
+    private final boolean[] outdatedBroadphases;
+    private final ContactBuffer contactBuffer;
+    private final ContactBuffer candidatePairs;
+    private boolean[] collisionResults;
 
     protected CollisionManager() {
-        collidingGameObjects = new LinkedList<>();
+        collidingGameObjects = new HandleList<>();
+        altitudeLayers = new ArrayList<>(CollidingGameObject.MAX_ALTITUDE_LEVEL + 1);
+        for (int altitudeLevel = 0; altitudeLevel <= CollidingGameObject.MAX_ALTITUDE_LEVEL; altitudeLevel++) {
+            altitudeLayers.add(new HandleList<>());
+        }
+        outdatedAltitudeLayers = new boolean[CollidingGameObject.MAX_ALTITUDE_LEVEL + 1];
+        outdatedBroadphases = new boolean[CollidingGameObject.MAX_ALTITUDE_LEVEL + 1];
+        Arrays.fill(outdatedBroadphases, true);
+        contactBuffer = new ContactBuffer();
+        candidatePairs = new ContactBuffer();
+        collisionResults = new boolean[0];
+        broadphases = new ArrayList<>(CollidingGameObject.MAX_ALTITUDE_LEVEL + 1);
+        for (int altitudeLevel = 0; altitudeLevel <= CollidingGameObject.MAX_ALTITUDE_LEVEL; altitudeLevel++) {
+            broadphases.add(GameSettings.USE_SWEEP_AND_PRUNE ? new SweepAndPrune() : new CollisionGrid());
+        }
     }
 
     /**
      * Manages collisions between any game objects in the list. If a collision is detected, the method
-     * {@link CollidingGameObject#reactToCollisionWith(CollidingGameObject)} is called for both game objects.
+     * {@link CollidingGameObject#reactToCollisionWith(CollidingGameObject)} is called for each of both game objects
+     * that reacts to the {@link CollisionCategory} of the other one.
+     * Detection ({@link #detectCollisions()}) and reactions are separated: all contacts are collected first and
+     * dispatched afterwards in the order in which they were found.
      * If <code>showHitBoxes</code> is true, all hitboxes of game objects in the list are shown as red rectangles.
      *
      * @param showHitBoxes If true, hitboxes of colliding game objects in the list are shown.
      */
     protected void manageCollisions(boolean showHitBoxes) {
-        int sublistIndex = 0;
-        for (CollidingGameObject gameObjectA : collidingGameObjects) {
-            sublistIndex++;
-            List<CollidingGameObject> restOfList = collidingGameObjects.subList(sublistIndex, collidingGameObjects.size());
-            for (CollidingGameObject gameObjectB : restOfList) {
+        detectCollisions();
+        dispatchContacts();
+
+        if (showHitBoxes) {
+            for (CollidingGameObject collidingGameObject : collidingGameObjects) {
+                collidingGameObject.showHitBox();
+            }
+        }
+    }
+
+    /**
+     * Finds all pairs of game objects that currently collide and records them in the {@link ContactBuffer}.
+     * No game object is changed by the detection.
+     * Game objects are kept in one layer per altitude level, since game objects on different altitude levels can
+     * never collide. Inside a layer a {@link Broadphase} ({@link SweepAndPrune} or {@link CollisionGrid}, see
+     * {@link GameSettings#USE_SWEEP_AND_PRUNE}) is used, so only game objects whose hitbox bounds overlap are checked
+     * in detail. Above {@link GameSettings#PARALLEL_NARROW_PHASE_MIN_PAIRS} candidate pairs these detailed tests run
+     * in parallel (see {@link GameSettings#USE_PARALLEL_NARROW_PHASE}). Contacts are recorded in the order of the list
+     * either way.
+     */
+    protected void detectCollisions() {
+        if (GameSettings.COUNT_BOUNDING_BOX_CHECKS) {
+            CollidingGameObject.resetBoundingBoxStatistics();
+        }
+        updateAltitudeLayers();
+        contactBuffer.clear();
+        candidatePairs.clear();
+
+        // game objects do not move during collision detection, so every hitbox is updated at most once
+        // rebuilding the broadphases updates all of them, afterwards the hitbox tests only read
+        CollidingGameObject.openHitBoxFrame();
+        for (int altitudeLevel = 0; altitudeLevel < altitudeLayers.size(); altitudeLevel++) {
+            collectCandidatePairs(altitudeLayers.get(altitudeLevel), broadphases.get(altitudeLevel));
+        }
+        testCandidatePairs();
+        CollidingGameObject.closeHitBoxFrame();
+
+        // the game objects move before the broadphases are needed again
+        Arrays.fill(outdatedBroadphases, true);
+
+        for (int pairIdx = 0; pairIdx < candidatePairs.size(); pairIdx++) {
+            if (collisionResults[pairIdx]) {
+                contactBuffer.add(candidatePairs.first(pairIdx), candidatePairs.second(pairIdx));
+            }
+        }
+        candidatePairs.clear();
+    }
+
+    private void collectCandidatePairs(List<CollidingGameObject> altitudeLayer, Broadphase broadphase) {
+        broadphase.rebuild(altitudeLayer);
+
+        for (int indexA = 0; indexA < altitudeLayer.size(); indexA++) {
+            CollidingGameObject gameObjectA = altitudeLayer.get(indexA);
+            int numberOfCandidates = broadphase.findCandidates(indexA);
+
+            for (int candidateIdx = 0; candidateIdx < numberOfCandidates; candidateIdx++) {
+                CollidingGameObject gameObjectB = altitudeLayer.get(broadphase.candidate(candidateIdx));
                 if (gameObjectA.hasDespawned || gameObjectB.hasDespawned || gameObjectA == gameObjectB) {
                     continue;
                 }
 
-                if (gameObjectA.collidesWith(gameObjectB)) {
-                    gameObjectA.reactToCollisionWith(gameObjectB);
-                    gameObjectB.reactToCollisionWith(gameObjectA);
+                candidatePairs.add(gameObjectA, gameObjectB);
+            }
+        }
+    }
+
+    private void testCandidatePairs() {
+        int numberOfPairs = candidatePairs.size();
+        if (collisionResults.length < numberOfPairs) {
+            collisionResults = new boolean[Math.max(numberOfPairs, collisionResults.length * 2)];
+        }
+
+        // the bounding box counters are plain ints, see GameSettings.COUNT_BOUNDING_BOX_CHECKS
+        if (GameSettings.USE_PARALLEL_NARROW_PHASE && !GameSettings.COUNT_BOUNDING_BOX_CHECKS
+                && numberOfPairs >= GameSettings.PARALLEL_NARROW_PHASE_MIN_PAIRS) {
+            // every hitbox is updated here, so that the tasks only read the game objects
+            for (int pairIdx = 0; pairIdx < numberOfPairs; pairIdx++) {
+                candidatePairs.first(pairIdx).prepareHitBox();
+                candidatePairs.second(pairIdx).prepareHitBox();
+            }
+            ForkJoinPool.commonPool().invoke(new NarrowPhaseTask(candidatePairs, collisionResults, 0, numberOfPairs));
+
+            // the few pairs that need an Area are tested afterwards
+            for (int pairIdx = 0; pairIdx < numberOfPairs; pairIdx++) {
+                CollidingGameObject first = candidatePairs.first(pairIdx);
+                CollidingGameObject second = candidatePairs.second(pairIdx);
+                if (!first.isTestedWithoutArea(second)) {
+                    collisionResults[pairIdx] = first.testCollisionWith(second);
                 }
             }
-            if (showHitBoxes) {
-                gameObjectA.showHitBox();
+        } else {
+            for (int pairIdx = 0; pairIdx < numberOfPairs; pairIdx++) {
+                collisionResults[pairIdx] = candidatePairs.first(pairIdx).collidesWith(candidatePairs.second(pairIdx));
             }
         }
     }
 
+    /**
+     * Tests a range of candidate pairs and splits it in halves, as long as it is large enough to be worth it.
+     * Each task only writes the results of its own range. The hitboxes have to be prepared before, the tasks only
+     * read them, and pairs that need an {@link java.awt.geom.Area} are left out.
+     */
+    private static class NarrowPhaseTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        private static final int PAIRS_PER_TASK = 64;
+
+        private final ContactBuffer candidatePairs;
+        private final boolean[] collisionResults;
+        private final int from;
+        private final int to;
+
+        private NarrowPhaseTask(ContactBuffer candidatePairs, boolean[] collisionResults, int from, int to) {
+            this.candidatePairs = candidatePairs;
+            this.collisionResults = collisionResults;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PAIRS_PER_TASK) {
+                for (int pairIdx = from; pairIdx < to; pairIdx++) {
+                    CollidingGameObject first = candidatePairs.first(pairIdx);
+                    CollidingGameObject second = candidatePairs.second(pairIdx);
+                    if (first.isTestedWithoutArea(second)) {
+                        collisionResults[pairIdx] = first.testCollisionWith(second);
+                    }
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new NarrowPhaseTask(candidatePairs, collisionResults, from, middle),
+                        new NarrowPhaseTask(candidatePairs, collisionResults, middle, to));
+            }
+        }
+    }
+
+    private void dispatchContacts() {
+        for (int contactIdx = 0; contactIdx < contactBuffer.size(); contactIdx++) {
+            CollidingGameObject gameObjectA = contactBuffer.first(contactIdx);
+            CollidingGameObject gameObjectB = contactBuffer.second(contactIdx);
+
+            // an earlier reaction in this frame may already have despawned one of them
+            if (gameObjectA.hasDespawned || gameObjectB.hasDespawned) {
+                continue;
+            }
+
+            if (gameObjectA.reactsTo(gameObjectB)) {
+                gameObjectA.reactToCollisionWith(gameObjectB);
+            }
+            if (gameObjectB.reactsTo(gameObjectA)) {
+                gameObjectB.reactToCollisionWith(gameObjectA);
+            }
+        }
+        contactBuffer.clear();
+    }
+
+    /**
+     * Finds the first game object of the given category that currently collides with the given game object.
+     * The {@link Broadphase} of its altitude level is queried with its hitbox bounds, so only game objects whose
+     * hitbox bounds overlap them are filtered by category and tested. Like {@link #castRay}, the broadphase is
+     * rebuilt at most once per frame, by the first query after the game objects moved.
+     *
+     * @param gameObject the game object that asks
+     * @param category   the category of the game objects to check
+     * @return the colliding game object or <code>null</code> if there is none
+     */
+    protected CollidingGameObject findCollidingGameObject(CollidingGameObject gameObject, CollisionCategory category) {
+        int layerIdx = altitudeLayerIndex(gameObject);
+        List<CollidingGameObject> altitudeLayer = altitudeLayers.get(layerIdx);
+        Broadphase broadphase = updatedBroadphase(layerIdx);
+        Rectangle bounds = gameObject.calculateHitBoxBounds();
+        int numberOfCandidates = broadphase.findCandidatesInArea(bounds.getMinX(), bounds.getMinY(),
+                bounds.getMaxX(), bounds.getMaxY());
+
+        for (int candidateIdx = 0; candidateIdx < numberOfCandidates; candidateIdx++) {
+            CollidingGameObject candidate = altitudeLayer.get(broadphase.candidate(candidateIdx));
+            if (!candidate.hasDespawned && candidate != gameObject && candidate.getCollisionCategory() == category
+                    && gameObject.collidesWith(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Casts a ray and finds the first game object of the given categories whose hitbox it enters. The ray reaches
+     * {@code (originX + t * directionX, originY + t * directionY)} for every {@code t} between 0 and
+     * {@code maxParameter}. The {@link Broadphase} of the altitude level is queried with the bounding box of the ray,
+     * so only game objects whose hitbox bounds overlap it are tested, and those are rejected by their bounding box
+     * before any polygon is touched.
+     *
+     * <p>The broadphase is rebuilt by the first ray cast after the game objects moved, which happens at most once
+     * per frame. The stationary game objects only move with the game world, which is shifted between frames, so they
+     * are always found where they are. Game objects that move themselves later in the same frame are found where they
+     * were at the first ray cast of that frame.</p>
+     *
+     * @param originX       x-coordinate of the start of the ray
+     * @param originY       y-coordinate of the start of the ray
+     * @param directionX    x-component of the direction of the ray
+     * @param directionY    y-component of the direction of the ray
+     * @param maxParameter  the largest {@code t} that belongs to the ray
+     * @param altitudeLevel the altitude level of the ray
+     * @param categoryMask  the bits (see {@link CollisionCategory#bit()}) of all categories to check
+     * @return the first hit or <code>null</code> if the ray does not hit anything
+     */
+    protected RaycastHit castRay(double originX, double originY, double directionX, double directionY,
+                                 double maxParameter, int altitudeLevel, int categoryMask) {
+        int layerIdx = Math.max(0, Math.min(CollidingGameObject.MAX_ALTITUDE_LEVEL, altitudeLevel));
+        Broadphase broadphase = updatedBroadphase(layerIdx);
+        List<CollidingGameObject> altitudeLayer = altitudeLayers.get(layerIdx);
+        double endX = originX + directionX * maxParameter;
+        double endY = originY + directionY * maxParameter;
+        int numberOfCandidates = broadphase.findCandidatesInArea(Math.min(originX, endX), Math.min(originY, endY),
+                Math.max(originX, endX), Math.max(originY, endY));
+
+        CollidingGameObject firstHit = null;
+        double firstEntry = maxParameter;
+        for (int candidateIdx = 0; candidateIdx < numberOfCandidates; candidateIdx++) {
+            CollidingGameObject candidate = altitudeLayer.get(broadphase.candidate(candidateIdx));
+            if (candidate.hasDespawned || candidate.getAltitudeLevel() != altitudeLevel
+                    || (categoryMask & candidate.getCollisionCategory().bit()) == 0) {
+                continue;
+            }
+
+            // only hits before the current first hit are of interest
+            double entry = candidate.calculateRayEntry(originX, originY, directionX, directionY, firstEntry);
+            if (entry < firstEntry || (firstHit == null && entry == firstEntry)) {
+                firstHit = candidate;
+                firstEntry = entry;
+            }
+        }
+        return firstHit == null ? null : new RaycastHit(firstHit, firstEntry);
+    }
+
+    private Broadphase updatedBroadphase(int layerIdx) {
+        if (outdatedBroadphases[layerIdx]) {
+            updateAltitudeLayers();
+            broadphases.get(layerIdx).rebuild(altitudeLayers.get(layerIdx));
+            outdatedBroadphases[layerIdx] = false;
+        }
+        return broadphases.get(layerIdx);
+    }
+
+    /**
+     * Some game objects change their altitude level during the game, e.g. the
+     * {@link thd.gameobjects.movable.ZaxxonFighter}. The layers they left and entered are rebuilt from the list of
+     * all colliding game objects, so every layer keeps the order of that list.
+     */
+    private void updateAltitudeLayers() {
+        boolean anyLayerOutdated = false;
+
+        for (int altitudeLevel = 0; altitudeLevel < altitudeLayers.size(); altitudeLevel++) {
+            for (CollidingGameObject collidingGameObject : altitudeLayers.get(altitudeLevel)) {
+                int currentAltitudeLevel = altitudeLayerIndex(collidingGameObject);
+
+                if (currentAltitudeLevel != altitudeLevel) {
+                    outdatedAltitudeLayers[altitudeLevel] = true;
+                    outdatedAltitudeLayers[currentAltitudeLevel] = true;
+                    anyLayerOutdated = true;
+                }
+            }
+        }
+
+        if (!anyLayerOutdated) {
+            return;
+        }
+
+        for (int altitudeLevel = 0; altitudeLevel < altitudeLayers.size(); altitudeLevel++) {
+            if (outdatedAltitudeLayers[altitudeLevel]) {
+                altitudeLayers.get(altitudeLevel).clear();
+                outdatedBroadphases[altitudeLevel] = true;
+            }
+        }
+        for (CollidingGameObject collidingGameObject : collidingGameObjects) {
+            int altitudeLevel = altitudeLayerIndex(collidingGameObject);
+            if (outdatedAltitudeLayers[altitudeLevel]) {
+                altitudeLayers.get(altitudeLevel).add(collidingGameObject);
+            }
+        }
+        for (int altitudeLevel = 0; altitudeLevel < altitudeLayers.size(); altitudeLevel++) {
+            outdatedAltitudeLayers[altitudeLevel] = false;
+        }
+    }
+
+    private int altitudeLayerIndex(CollidingGameObject collidingGameObject) {
+        return Math.max(0, Math.min(CollidingGameObject.MAX_ALTITUDE_LEVEL, collidingGameObject.getAltitudeLevel()));
+    }
+
     protected void addToCollisionManagement(GameObject toAdd) {
         if (toAdd instanceof CollidingGameObject collidingGameObject) {
             collidingGameObjects.add(collidingGameObject);
+            altitudeLayers.get(altitudeLayerIndex(collidingGameObject)).add(collidingGameObject);
+            outdatedBroadphases[altitudeLayerIndex(collidingGameObject)] = true;
         }
     }
 
     protected void removeFromCollisionManagement(GameObject toRemove) {
         if (toRemove instanceof CollidingGameObject collidingGameObject) {
             collidingGameObjects.remove(collidingGameObject);
+
+            // the game object may have changed its altitude level since the layers were last updated
+            if (altitudeLayers.get(altitudeLayerIndex(collidingGameObject)).remove(collidingGameObject)) {
+                outdatedBroadphases[altitudeLayerIndex(collidingGameObject)] = true;
+            } else {
+                for (int altitudeLevel = 0; altitudeLevel < altitudeLayers.size(); altitudeLevel++) {
+                    if (altitudeLayers.get(altitudeLevel).remove(collidingGameObject)) {
+                        outdatedBroadphases[altitudeLevel] = true;
+                        break;
+                    }
+                }
+            }
         }
     }
-}
\ No newline at end of file
+}
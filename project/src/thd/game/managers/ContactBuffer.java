@@ -0,0 +1,77 @@
+package thd.game.managers;
+
+import thd.gameobjects.base.CollidingGameObject;
+
+import java.util.Arrays;
+
+/**
+ * Collects the pairs of {@link CollidingGameObject}s that collide in the current frame.
+ * The detection of the {@link CollisionManager} only fills this buffer, the reactions are dispatched afterwards.
+ * The arrays are kept between frames and only grow, so a frame without new records does not allocate.
+ */
+class ContactBuffer {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private CollidingGameObject[] firstGameObjects;
+    private CollidingGameObject[] secondGameObjects;
+    private int size;
+
+    ContactBuffer() {
+        firstGameObjects = new CollidingGameObject[INITIAL_CAPACITY];
+        secondGameObjects = new CollidingGameObject[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Records a contact between two game objects.
+     *
+     * @param first  the game object with the lower index in its altitude layer
+     * @param second the game object with the higher index in its altitude layer
+     */
+    void add(CollidingGameObject first, CollidingGameObject second) {
+        if (size == firstGameObjects.length) {
+            firstGameObjects = Arrays.copyOf(firstGameObjects, size * 2);
+            secondGameObjects = Arrays.copyOf(secondGameObjects, size * 2);
+        }
+        firstGameObjects[size] = first;
+        secondGameObjects[size] = second;
+        size++;
+    }
+
+    /**
+     * Returns the number of recorded contacts.
+     *
+     * @return the number of contacts
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the first game object of a contact.
+     *
+     * @param contactIdx index between 0 and {@link #size()}
+     * @return the first game object
+     */
+    CollidingGameObject first(int contactIdx) {
+        return firstGameObjects[contactIdx];
+    }
+
+    /**
+     * Returns the second game object of a contact.
+     *
+     * @param contactIdx index between 0 and {@link #size()}
+     * @return the second game object
+     */
+    CollidingGameObject second(int contactIdx) {
+        return secondGameObjects[contactIdx];
+    }
+
+    /**
+     * Removes all contacts, without keeping the game objects alive.
+     */
+    void clear() {
+        Arrays.fill(firstGameObjects, 0, size, null);
+        Arrays.fill(secondGameObjects, 0, size, null);
+        size = 0;
+    }
+}
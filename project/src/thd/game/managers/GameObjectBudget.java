@@ -0,0 +1,50 @@
+package thd.game.managers;
+
+import thd.gameobjects.base.SpawnPriority;
+
+/**
+ * Decides by their {@link SpawnPriority} which GameObjects may still be spawned, so that too many GameObjects slow
+ * the game down instead of ending it. Counts the GameObjects that had to be refused.
+ */
+class GameObjectBudget {
+    // cosmetic effects have to leave this share of the limit to the game play
+    private static final double COSMETIC_SHARE_OF_LIMIT = 0.9;
+
+    private int limit;
+    private final int[] rejections;
+
+    GameObjectBudget(int limit) {
+        setLimit(limit);
+        rejections = new int[SpawnPriority.values().length];
+    }
+
+    boolean admits(SpawnPriority priority, int usage) {
+        switch (priority) {
+            case ESSENTIAL:
+                return true;
+            case COSMETIC:
+                return usage < limit * COSMETIC_SHARE_OF_LIMIT;
+            default:
+                return usage < limit;
+        }
+    }
+
+    void recordRejection(SpawnPriority priority) {
+        rejections[priority.ordinal()]++;
+    }
+
+    int getRejections(SpawnPriority priority) {
+        return rejections[priority.ordinal()];
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    void setLimit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The limit of GameObjects has to be positive!");
+        }
+        this.limit = limit;
+    }
+}
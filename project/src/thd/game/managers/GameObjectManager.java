@@ -1,53 +1,98 @@
 package thd.game.managers;
 
-import thd.game.utilities.DynamicZIndexGameObject;
-import thd.game.utilities.SortedGameObjectsList;
+import thd.game.utilities.BucketedGameObjects;
 import thd.gameobjects.base.GameObject;
-import thd.gameobjects.movable.EnergyBarrier;
-import thd.gameobjects.movable.ZaxxonFighterLaserShot;
+import thd.gameobjects.base.PoolableGameObject;
+import thd.gameobjects.base.SpawnPriority;
 
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
 
 class GameObjectManager extends CollisionManager {
-    private final List<GameObject> gameObjects;
+    private final BucketedGameObjects gameObjects;
     private final List<GameObject> gameObjectsToBeAdded;
     private final List<GameObject> gameObjectsToBeRemoved;
-
-    private static final int MAXIMUM_NUMBER_OF_GAME_OBJECTS = 500;
+    private final List<GameObject> gameObjectsToBeMoved;
+    private final GameObjectPool gameObjectPool;
+    private final GameObjectBudget gameObjectBudget;
+    private int numberOfDeferredGameObjects;
 
     GameObjectManager() {
-        gameObjects = new SortedGameObjectsList();
+        gameObjects = new BucketedGameObjects();
         gameObjectsToBeAdded = new LinkedList<>();
         gameObjectsToBeRemoved = new LinkedList<>();
+        gameObjectsToBeMoved = new LinkedList<>();
+        gameObjectPool = new GameObjectPool();
+        gameObjectBudget = new GameObjectBudget(GameSettings.MAXIMUM_NUMBER_OF_GAME_OBJECTS);
     }
 
     void add(GameObject gameObject) {
         gameObjectsToBeAdded.add(gameObject);
-
-        if (gameObject instanceof ZaxxonFighterLaserShot) {
-            for (GameObject obj : gameObjects) {
-                if (obj instanceof EnergyBarrier) {
-                    ((EnergyBarrier) obj).addCollidingGameObjectForPathDecision((ZaxxonFighterLaserShot) gameObject);
-                }
-            }
-        }
     }
 
     void remove(GameObject gameObject) {
         gameObjectsToBeRemoved.add(gameObject);
     }
 
+    boolean admits(SpawnPriority priority) {
+        // GameObjects that are about to be added count as well, since many may be spawned in the same frame
+        if (gameObjectBudget.admits(priority, gameObjects.size() + gameObjectsToBeAdded.size())) {
+            return true;
+        }
+        gameObjectBudget.recordRejection(priority);
+        return false;
+    }
+
+    boolean admits(GameObject gameObject) {
+        // deferrable GameObjects are always admitted, they wait in gameObjectsToBeAdded until there is room
+        return gameObject.getSpawnPriority() == SpawnPriority.DEFERRABLE || admits(gameObject.getSpawnPriority());
+    }
+
+    int getNumberOfGameObjects() {
+        return gameObjects.size();
+    }
+
+    int getNumberOfDeferredGameObjects() {
+        return numberOfDeferredGameObjects;
+    }
+
+    int getNumberOfRejectedGameObjects(SpawnPriority priority) {
+        return gameObjectBudget.getRejections(priority);
+    }
+
+    int getGameObjectLimit() {
+        return gameObjectBudget.getLimit();
+    }
+
+    void setGameObjectLimit(int limit) {
+        gameObjectBudget.setLimit(limit);
+    }
+
+    <T extends GameObject & PoolableGameObject> T reuse(Class<T> type) {
+        return gameObjectPool.acquire(type);
+    }
+
+    void release(GameObject gameObject) {
+        gameObjectPool.release(gameObject);
+    }
+
+    void move(GameObject gameObject) {
+        gameObjectsToBeMoved.add(gameObject);
+    }
+
     void removeAll() {
         gameObjectsToBeAdded.clear();
-        gameObjectsToBeRemoved.addAll(gameObjects);
+        gameObjectsToBeMoved.clear();
+        for (GameObject gameObject : gameObjects) {
+            gameObjectsToBeRemoved.add(gameObject);
+        }
     }
 
     void gameLoop() {
         updateLists();
 
-        resortForDynamicGameObjects();
+        moveGameObjects();
 
         for (GameObject gameObject : gameObjects) {
             gameObject.updateStatus();
@@ -61,48 +106,47 @@ class GameObjectManager extends CollisionManager {
     private void updateLists() {
         removeFromGameObjects();
         addToGameObjects();
-
-        if (gameObjects.size() > MAXIMUM_NUMBER_OF_GAME_OBJECTS) {
-            throw new TooManyGameObjectsException("Maximum Number of GameObjects (" + MAXIMUM_NUMBER_OF_GAME_OBJECTS + ") exceeded!");
-        }
     }
 
     private void removeFromGameObjects() {
         for (GameObject o : gameObjectsToBeRemoved) {
-            gameObjects.remove(o);
-            removeFromCollisionManagement(o);
+            // a GameObject may be destroyed more than once, but it may only be reused once it is really removed
+            if (gameObjects.remove(o)) {
+                removeFromCollisionManagement(o);
+                gameObjectPool.release(o);
+            }
         }
         gameObjectsToBeRemoved.clear();
     }
 
     private void addToGameObjects() {
-        for (GameObject toAdd : gameObjectsToBeAdded) {
-            gameObjects.add(toAdd);
-            addToCollisionManagement(toAdd);
-        }
-        gameObjectsToBeAdded.clear();
-    }
-
-    /**
-     * Some GameObjects may change their DistanceToBackground during the Game, e.g. the {@link thd.gameobjects.movable.ZaxxonFighter}.
-     */
-    private void resortForDynamicGameObjects() {
-        ListIterator<GameObject> iterator = gameObjects.listIterator();
-        LinkedList<GameObject> dynamicObjectsToReinsert = new LinkedList<>();
+        numberOfDeferredGameObjects = 0;
+        Iterator<GameObject> iterator = gameObjectsToBeAdded.iterator();
 
-        // remove dynamic GameObjects
         while (iterator.hasNext()) {
-            GameObject gameObject = iterator.next();
+            GameObject toAdd = iterator.next();
 
-            if (gameObject instanceof DynamicZIndexGameObject) {
-                iterator.remove();
-                dynamicObjectsToReinsert.add(gameObject);
+            if (toAdd.getSpawnPriority() == SpawnPriority.DEFERRABLE
+                    && !gameObjectBudget.admits(SpawnPriority.DEFERRABLE, gameObjects.size())) {
+                numberOfDeferredGameObjects++;
+                continue;
+            }
+
+            iterator.remove();
+            if (gameObjects.add(toAdd)) {
+                addToCollisionManagement(toAdd);
             }
         }
+    }
 
-        // insert dynamic GameObjects back into sorted GameObjectsList
-        for (GameObject gameObject : dynamicObjectsToReinsert) {
-            gameObjects.add(gameObject);
+    /**
+     * Some GameObjects change their DistanceToBackground during the Game, e.g. the {@link thd.gameobjects.movable.ZaxxonFighter}.
+     * They are moved to their new place in the drawing order once per change, not every frame.
+     */
+    private void moveGameObjects() {
+        for (GameObject gameObject : gameObjectsToBeMoved) {
+            gameObjects.move(gameObject);
         }
+        gameObjectsToBeMoved.clear();
     }
 }
@@ -0,0 +1,41 @@
+package thd.game.managers;
+
+import thd.gameobjects.base.GameObject;
+import thd.gameobjects.base.PoolableGameObject;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps removed {@link PoolableGameObject}s, one stack per type, so that they can be spawned again.
+ */
+class GameObjectPool {
+    private static final int MAXIMUM_NUMBER_OF_GAME_OBJECTS_PER_TYPE = 32;
+
+    private final Map<Class<?>, ArrayDeque<GameObject>> freeGameObjects;
+
+    GameObjectPool() {
+        freeGameObjects = new HashMap<>();
+    }
+
+    <T extends GameObject & PoolableGameObject> T acquire(Class<T> type) {
+        ArrayDeque<GameObject> freeGameObjectsOfType = freeGameObjects.get(type);
+        if (freeGameObjectsOfType == null || freeGameObjectsOfType.isEmpty()) {
+            return null;
+        }
+        return type.cast(freeGameObjectsOfType.pop());
+    }
+
+    void release(GameObject gameObject) {
+        if (!(gameObject instanceof PoolableGameObject)) {
+            return;
+        }
+
+        ArrayDeque<GameObject> freeGameObjectsOfType =
+                freeGameObjects.computeIfAbsent(gameObject.getClass(), type -> new ArrayDeque<>());
+        if (freeGameObjectsOfType.size() < MAXIMUM_NUMBER_OF_GAME_OBJECTS_PER_TYPE) {
+            freeGameObjectsOfType.push(gameObject);
+        }
+    }
+}
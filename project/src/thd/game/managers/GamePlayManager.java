@@ -2,7 +2,14 @@ package thd.game.managers;
 
 import thd.game.level.Level;
 import thd.game.utilities.GameView;
+import thd.gameobjects.base.CollidingGameObject;
+import thd.gameobjects.base.CollisionCategory;
 import thd.gameobjects.base.GameObject;
+import thd.gameobjects.base.PoolableGameObject;
+import thd.gameobjects.base.Position;
+import thd.gameobjects.base.RaycastHit;
+import thd.gameobjects.base.SpawnPriority;
+import thd.gameobjects.base.Vector2d;
 import thd.gameobjects.movable.*;
 
 import static thd.game.managers.GameSettings.SPEED_IN_PIXEL;
@@ -35,10 +42,105 @@ public class GamePlayManager extends WorldShiftManager {
      */
     @Override
     public void spawnGameObject(GameObject gameObject) {
+        if (!gameObjectManager.admits(gameObject)) {
+            // a refused GameObject never enters the game, so it can be reused right away
+            gameObjectManager.release(gameObject);
+            return;
+        }
         super.spawnGameObject(gameObject);
         gameObjectManager.add(gameObject);
     }
 
+    /**
+     * Checks if there is room for something of the given priority in the budget of GameObjects, e.g. for an
+     * explosion. A refusal is counted.
+     *
+     * @param priority the priority
+     * @return true if there is room
+     * @see GameSettings#MAXIMUM_NUMBER_OF_GAME_OBJECTS
+     */
+    public boolean admits(SpawnPriority priority) {
+        return gameObjectManager.admits(priority);
+    }
+
+    /**
+     * Returns the number of GameObjects that are currently in the game.
+     *
+     * @return the number of GameObjects
+     */
+    public int getNumberOfGameObjects() {
+        return gameObjectManager.getNumberOfGameObjects();
+    }
+
+    /**
+     * Returns the number of {@link SpawnPriority#DEFERRABLE} GameObjects that are waiting for room in the budget.
+     *
+     * @return the number of waiting GameObjects
+     */
+    public int getNumberOfDeferredGameObjects() {
+        return gameObjectManager.getNumberOfDeferredGameObjects();
+    }
+
+    /**
+     * Returns how often something of the given priority has been refused, since there was no room in the budget.
+     *
+     * @param priority the priority
+     * @return the number of refusals
+     */
+    public int getNumberOfRejectedGameObjects(SpawnPriority priority) {
+        return gameObjectManager.getNumberOfRejectedGameObjects(priority);
+    }
+
+    /**
+     * Returns the budget of GameObjects that are in the game at the same time.
+     *
+     * @return the budget
+     */
+    public int getGameObjectLimit() {
+        return gameObjectManager.getGameObjectLimit();
+    }
+
+    /**
+     * Changes the budget of GameObjects that are in the game at the same time, e.g. to allow more on fast machines.
+     *
+     * @param limit the new budget, has to be positive
+     */
+    public void setGameObjectLimit(int limit) {
+        gameObjectManager.setGameObjectLimit(limit);
+    }
+
+    /**
+     * Returns how many pairs with at least one polygonal hitbox were checked against each others bounding box in the
+     * current frame. Only counted if {@link GameSettings#COUNT_BOUNDING_BOX_CHECKS} is set.
+     *
+     * @return the number of bounding box checks
+     */
+    public int getNumberOfBoundingBoxChecks() {
+        return CollidingGameObject.getBoundingBoxChecks();
+    }
+
+    /**
+     * Returns how many pairs with at least one polygonal hitbox were rejected by their bounding boxes in the current
+     * frame, so that no polygon had to be touched. Only counted if {@link GameSettings#COUNT_BOUNDING_BOX_CHECKS} is
+     * set.
+     *
+     * @return the number of bounding box rejections
+     */
+    public int getNumberOfBoundingBoxRejections() {
+        return CollidingGameObject.getBoundingBoxRejections();
+    }
+
+    /**
+     * Returns a removed {@code GameObject} of the given type that can be reinitialized and spawned again.
+     *
+     * @param type the type of the {@code GameObject}
+     * @param <T>  the type of the {@code GameObject}
+     * @return a removed {@code GameObject}, or null if there is none and a new one has to be created
+     */
+    public <T extends GameObject & PoolableGameObject> T reuseGameObject(Class<T> type) {
+        return gameObjectManager.reuse(type);
+    }
+
     /**
      * Adds a {@code GameObject} to the Depawning Queue.
      *
@@ -51,14 +153,36 @@ public class GamePlayManager extends WorldShiftManager {
         gameObjectManager.remove(gameObject);
     }
 
+    /**
+     * Moves a {@code GameObject} to its new place in the drawing order, after its distanceToBackground has changed.
+     * It is moved at the start of the next frame.
+     *
+     * @param gameObject the object whose distanceToBackground has changed
+     */
+    public void changeDistanceToBackground(GameObject gameObject) {
+        gameObjectManager.move(gameObject);
+    }
+
     @Override
     protected void destroyAllGameObjects() {
         super.destroyAllGameObjects();
         gameObjectManager.removeAll();
     }
 
+    /**
+     * Activates the GameObjects that are due. It is called once per frame right before the game world moves, so that
+     * a GameObject moves with the game world from the frame on in which it is activated.
+     */
+    protected void activateGameObjects() {
+    }
+
     private void gamePlayManagement() {
-        moveWorldToLeft(-SPEED_IN_PIXEL);
+        activateGameObjects();
+        if (GameSettings.USE_TIME_PARAMETERIZED_MOTION && !GameSettings.USE_CAMERA_OFFSET_SCROLLING) {
+            moveWorldToGameTime(gameView.gameTimeInMilliseconds());
+        } else {
+            moveWorldToLeft(-SPEED_IN_PIXEL);
+        }
     }
 
     /**
@@ -147,6 +271,40 @@ public class GamePlayManager extends WorldShiftManager {
         }
     }
 
+    /**
+     * Checks if a game object currently collides with any game object of the given category, e.g. if a
+     * {@link ZaxxonFighterLaserShot} hits an {@link EnergyBarrier}. No reactions are triggered.
+     *
+     * @param gameObject the game object that asks
+     * @param category   the category of the game objects to check
+     * @return <code>true</code> if there is a collision
+     */
+    public boolean isHitBy(CollidingGameObject gameObject, CollisionCategory category) {
+        return gameObjectManager.findCollidingGameObject(gameObject, category) != null;
+    }
+
+    /**
+     * Casts a ray over the screen and finds the first game object of the given categories that it hits,
+     * e.g. the {@link Wall} that stops a laser shot. The ray reaches {@code origin + t * direction} for every
+     * {@code t} between 0 and {@code maxParameter}.
+     *
+     * @param origin        the start of the ray
+     * @param direction     the direction of the ray
+     * @param maxParameter  the largest {@code t} that belongs to the ray
+     * @param altitudeLevel the altitude level of the ray
+     * @param categories    the categories of the game objects that can be hit
+     * @return the first hit or <code>null</code> if the ray does not hit anything
+     */
+    public RaycastHit castRay(Position origin, Vector2d direction, double maxParameter, int altitudeLevel,
+                              CollisionCategory... categories) {
+        int categoryMask = 0;
+        for (CollisionCategory category : categories) {
+            categoryMask |= category.bit();
+        }
+        return gameObjectManager.castRay(origin.getX(), origin.getY(), direction.getX(), direction.getY(),
+                maxParameter, altitudeLevel, categoryMask);
+    }
+
     @Override
     protected void gameLoop() {
         super.gameLoop();
@@ -69,6 +69,58 @@ public final class GameSettings {
      * This is the default speed for all {@link GameObject}s.
      */
     public static final double SPEED_IN_PIXEL = 3;
+    /**
+     * The default speed for all {@link GameObject}s per millisecond of game time. A frame is stretched out by 1.3,
+     * the same as for the spawn delays of the level.
+     */
+    public static final double SPEED_IN_PIXEL_PER_MILLISECOND = SPEED_IN_PIXEL / (1000.0 / 60 * 1.3);
+    /**
+     * If set to {@code true}, the positions of the stationary GameObjects are computed from the game time, see
+     * {@link thd.gameobjects.base.PositionStore#moveTo(double, double)}, otherwise they are moved by
+     * {@link #SPEED_IN_PIXEL} every frame. Computed positions do not drift and stay correct if frames are skipped.
+     */
+    public static final boolean USE_TIME_PARAMETERIZED_MOTION = false;
+    /**
+     * If set to {@code true}, the stationary GameObjects are scrolled by one offset instead of being moved every frame,
+     * see {@link thd.gameobjects.base.PositionStore#scroll(double)}. Their positions are computed from the offset when
+     * they are read, for drawing and for collisions. This will overwrite {@link #USE_TIME_PARAMETERIZED_MOTION}.
+     */
+    public static final boolean USE_CAMERA_OFFSET_SCROLLING = false;
+    /**
+     * If set to {@code true}, collisions are prefiltered by sweep and prune along the travel path, otherwise by a
+     * uniform grid over the screen. Both find the same collisions.
+     */
+    public static final boolean USE_SWEEP_AND_PRUNE = true;
+    /**
+     * If set to {@code true}, the hitbox tests of the candidate pairs found by the broadphase are split across the
+     * common {@link java.util.concurrent.ForkJoinPool} in dense scenes. The collisions are still reported in the
+     * same order as without. The tasks only read hitboxes that are prepared before, see
+     * {@link thd.gameobjects.base.CollidingGameObject#testCollisionWith(thd.gameobjects.base.CollidingGameObject)}.
+     */
+    public static final boolean USE_PARALLEL_NARROW_PHASE = false;
+    /**
+     * The minimum number of candidate pairs in one frame, for which the hitbox tests are run in parallel.
+     * Below, splitting the work costs more than it saves.
+     */
+    public static final int PARALLEL_NARROW_PHASE_MIN_PAIRS = 256;
+    /**
+     * If set to {@code true}, the pairs of polygonal hitboxes that are checked and rejected by their bounding boxes
+     * are counted every frame, see {@link GamePlayManager#getNumberOfBoundingBoxChecks()}. The hitbox tests then
+     * always run sequentially, so that plain counters suffice.
+     */
+    public static final boolean COUNT_BOUNDING_BOX_CHECKS = false;
+    /**
+     * If set to {@code true}, the rows of a {@link thd.gameobjects.movable.Wall} collide by a bitmask of their blocks
+     * ({@link thd.gameobjects.base.BlockMaskHitbox}), otherwise by a sorted list of intervals
+     * ({@link thd.gameobjects.base.IntervalHitbox}). Both describe the same area.
+     */
+    public static final boolean USE_WALL_BLOCK_MASKS = true;
+    /**
+     * The budget of GameObjects that are in the game at the same time. When it is used up, GameObjects are refused or
+     * delayed by their {@link thd.gameobjects.base.SpawnPriority} instead of slowing the game down. The budget can be
+     * changed while the game is running, see {@link GamePlayManager#setGameObjectLimit(int)}.
+     */
+    public static final int MAXIMUM_NUMBER_OF_GAME_OBJECTS = 500;
 
     static {
         // check for valid constant values
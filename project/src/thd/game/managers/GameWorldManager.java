@@ -11,14 +11,15 @@ import thd.gameobjects.unmovable.FuelCellGauge;
 import thd.gameobjects.unmovable.HeightStatusBar;
 import thd.gameobjects.unmovable.Overlay;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
 
 import static thd.game.managers.GameSettings.SPEED_IN_PIXEL;
 
 class GameWorldManager extends GamePlayManager {
-    private final List<GameObject> activatableGameObjects;
+    private final ActivationQueue gameObjectsToActivateByTime;
+    private final List<WallBackground> inactiveWallBackgrounds;
 
     private String backgroundWallBlockImage;
     private WallBackground[] wallBackgrounds;
@@ -26,7 +27,8 @@ class GameWorldManager extends GamePlayManager {
     protected GameWorldManager(GameView gameView) {
         super(gameView);
 
-        activatableGameObjects = new LinkedList<>();
+        gameObjectsToActivateByTime = new ActivationQueue();
+        inactiveWallBackgrounds = new ArrayList<>();
         overlay = new Overlay(gameView, this);
     }
 
@@ -46,10 +48,15 @@ class GameWorldManager extends GamePlayManager {
     }
 
     private void addActivatableGameObject(GameObject gameObject) {
-        activatableGameObjects.add(gameObject);
+        gameObjectsToActivateByTime.add(gameObject);
         addToShiftableGameObjectsIfShiftable(gameObject);
     }
 
+    private void addInactiveWallBackground(WallBackground wallBackground) {
+        inactiveWallBackgrounds.add(wallBackground);
+        addToShiftableGameObjectsIfShiftable(wallBackground);
+    }
+
 
     private void spawnGameObjectsFromWorldString() {
         String[] lines = level.world.split("\\R");
@@ -99,7 +106,7 @@ class GameWorldManager extends GamePlayManager {
         wallBackgrounds[0] = new WallBackground(gameView, this, backgroundWallBlockImage, true);
         wallBackgrounds[1] = new WallBackground(gameView, this, backgroundWallBlockImage, false);
         spawnGameObject(wallBackgrounds[0]);
-        addActivatableGameObject(wallBackgrounds[1]);
+        addInactiveWallBackground(wallBackgrounds[1]);
     }
 
     private int distanceToDuration(double distance) {
@@ -107,62 +114,43 @@ class GameWorldManager extends GamePlayManager {
     }
 
     protected void initializeLevel() {
-        activatableGameObjects.clear();
+        gameObjectsToActivateByTime.clear();
+        inactiveWallBackgrounds.clear();
         destroyAllGameObjects();
         spawnGameObjects();
         spawnGameObjectsFromWorldString();
-        clearListsForPathDecisionsInGameObjects();
-    }
-
-    private void clearListsForPathDecisionsInGameObjects() {
-        // @TODO
     }
 
     @Override
     protected void gameLoop() {
         super.gameLoop();
-        activateGameObjects();
+        activateWallBackgrounds();
 
         if (wallBackgrounds[0].hasDespawned) {
             wallBackgrounds[0] = wallBackgrounds[1];
             wallBackgrounds[1] = new WallBackground(gameView, this, backgroundWallBlockImage, false);
-            addActivatableGameObject(wallBackgrounds[1]);
+            addInactiveWallBackground(wallBackgrounds[1]);
         }
     }
 
-    private void activateGameObjects() {
-        ListIterator<GameObject> iterator = activatableGameObjects.listIterator();
-
-        while (iterator.hasNext()) {
-            GameObject gameObject = iterator.next();
-
-            if (gameObject instanceof EnemyShooter enemyShooter && enemyShooter.tryToActivate(null)) {
-                spawnGameObject(enemyShooter);
-                iterator.remove();
-            } else if (gameObject instanceof EnergyBarrier energyBarrier && energyBarrier.tryToActivate(null)) {
-                spawnGameObject(energyBarrier);
-                iterator.remove();
-            } else if (gameObject instanceof FuelTank fuelTank && fuelTank.tryToActivate(null)) {
-                spawnGameObject(fuelTank);
-                iterator.remove();
-            } else if (gameObject instanceof GunEmplacement gunEmplacement && gunEmplacement.tryToActivate(null)) {
-                spawnGameObject(gunEmplacement);
-                iterator.remove();
-            } else if (gameObject instanceof RadarTower radarTower && radarTower.tryToActivate(null)) {
-                spawnGameObject(radarTower);
-                iterator.remove();
-            } else if (gameObject instanceof VerticalRocketHole verticalRocketHole
-                    && verticalRocketHole.tryToActivate(null)) {
-                spawnGameObject(verticalRocketHole);
-                iterator.remove();
-            } else if (gameObject instanceof WallRow wallRow && wallRow.tryToActivate(null)) {
-                spawnGameObject(wallRow);
-                iterator.remove();
-            } else if (gameObject instanceof WallBackground wallBackground) {
-                if (wallBackground.tryToActivate(wallBackgrounds[0])) {
-                    spawnGameObject(gameObject);
-                    iterator.remove();
-                }
+    @Override
+    protected void activateGameObjects() {
+        // GameObjects are activated by time, only the ones that are due are looked at
+        GameObject activated;
+        while ((activated = gameObjectsToActivateByTime.pollActivated()) != null) {
+            spawnGameObject(activated);
+            startShifting(activated);
+        }
+    }
+
+    private void activateWallBackgrounds() {
+        // WallBackgrounds are activated by their predecessor instead of by time, once it has moved in this frame
+        Iterator<WallBackground> inactiveWallBackgroundIterator = inactiveWallBackgrounds.iterator();
+        while (inactiveWallBackgroundIterator.hasNext()) {
+            WallBackground wallBackground = inactiveWallBackgroundIterator.next();
+            if (wallBackground.tryToActivate(wallBackgrounds[0])) {
+                inactiveWallBackgroundIterator.remove();
+                spawnGameObject(wallBackground);
             }
         }
     }
@@ -0,0 +1,134 @@
+package thd.game.managers;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * An array-backed list that gives every element a slot handle, so an element can be found and removed in constant
+ * time without scanning the list or calling {@code equals}. A removed element leaves an empty slot behind. This keeps
+ * the order of the other elements. Empty slots are compacted away before the next access by index, so indices are
+ * always dense.
+ *
+ * <p>Elements are compared by identity and can only be contained once. The list is not thread-safe, not even for
+ * reading, since reading by index may compact it.</p>
+ *
+ * @param <T> the type of the elements
+ */
+final class HandleList<T> extends AbstractList<T> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<T, Handle<T>> handles;
+    private Handle<?>[] slots;
+    private int usedSlots;
+    private int size;
+
+    HandleList() {
+        handles = new IdentityHashMap<>();
+        slots = new Handle<?>[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Appends an element, unless it is already contained.
+     *
+     * @param element the element to append
+     * @return true if it was appended
+     */
+    @Override
+    public boolean add(T element) {
+        if (handles.containsKey(element)) {
+            return false;
+        }
+
+        if (usedSlots == slots.length) {
+            compact();
+            if (usedSlots == slots.length) {
+                slots = Arrays.copyOf(slots, slots.length * 2);
+            }
+        }
+
+        Handle<T> handle = new Handle<>(element, usedSlots);
+        slots[usedSlots++] = handle;
+        handles.put(element, handle);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes an element by its slot handle.
+     *
+     * @param element the element to remove
+     * @return true if it was contained
+     */
+    @Override
+    public boolean remove(Object element) {
+        Handle<T> handle = handles.remove(element);
+        if (handle == null) {
+            return false;
+        }
+
+        slots[handle.slot] = null;
+        size--;
+        modCount++;
+        if (size == 0) {
+            // every slot is empty already
+            usedSlots = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return handles.containsKey(element);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (usedSlots != size) {
+            compact();
+        }
+        return ((Handle<T>) slots[index]).element;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(slots, 0, usedSlots, null);
+        handles.clear();
+        usedSlots = 0;
+        size = 0;
+        modCount++;
+    }
+
+    private void compact() {
+        int newUsedSlots = 0;
+        for (int slot = 0; slot < usedSlots; slot++) {
+            if (slots[slot] != null) {
+                slots[slot].slot = newUsedSlots;
+                slots[newUsedSlots++] = slots[slot];
+            }
+        }
+        Arrays.fill(slots, newUsedSlots, usedSlots, null);
+        usedSlots = newUsedSlots;
+    }
+
+    private static final class Handle<T> {
+        private final T element;
+        private int slot;
+
+        private Handle(T element, int slot) {
+            this.element = element;
+            this.slot = slot;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package thd.game.managers;
+
+import thd.game.utilities.TravelPathCalculator;
+import thd.gameobjects.base.CollidingGameObject;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A sweep and prune broadphase for the {@link CollisionManager}.
+ * The hitbox bounds of all game objects are projected onto the axis along which all stationary game objects travel
+ * (see {@link TravelPathCalculator#TRAVEL_DIRECTION_X}). Since they all move with the same speed, their order along
+ * this axis barely changes between frames. The order of the last frame is therefore kept and only repaired with an
+ * insertion sort, which is close to linear for an almost sorted order. A sweep over the sorted projections then only
+ * visits pairs whose projections overlap. The sweep only runs once the candidate pairs are asked for, so an area
+ * query right after a rebuild only costs the projections and the insertion sort.
+ *
+ * <p>Each altitude layer needs its own instance, because the order of the last frame is kept. Every game object
+ * remembers its position in that order (see {@link CollidingGameObject#getSortedIndex()}), so the order is carried
+ * over without looking any game object up.</p>
+ */
+class SweepAndPrune implements Broadphase {
+    private static final int INITIAL_CAPACITY = 64;
+
+    // game objects sorted along the travel axis in the last frame, and where they are in the list passed to rebuild()
+    private CollidingGameObject[] sortedGameObjects;
+    private int[] currentIndices;
+    private int numberOfSortedGameObjects;
+    private int numberOfObjects;
+    // the longest projection of a single game object, an area query only has to look back this far
+    private double longestProjection;
+
+    // indexed like the list passed to rebuild()
+    private int[] order;
+    private boolean[] isOrdered;
+    private double[] minProjections;
+    private double[] maxProjections;
+    private int[] minX;
+    private int[] minY;
+    private int[] maxX;
+    private int[] maxY;
+
+    // candidate pairs found by the sweep, grouped by their lower index
+    private int[] pairFirst;
+    private int[] pairSecond;
+    private int numberOfPairs;
+    private int[] candidateStarts;
+    private int[] candidates;
+    private int[] fillPointers;
+    private boolean pairsOutdated;
+
+    // candidates found by an area query
+    private int[] areaCandidates;
+
+    private int[] currentCandidates;
+    private int currentCandidateStart;
+
+    SweepAndPrune() {
+        sortedGameObjects = new CollidingGameObject[INITIAL_CAPACITY];
+        currentIndices = new int[INITIAL_CAPACITY];
+        allocateObjectArrays(INITIAL_CAPACITY);
+        pairFirst = new int[INITIAL_CAPACITY];
+        pairSecond = new int[INITIAL_CAPACITY];
+        candidates = new int[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public void rebuild(List<CollidingGameObject> collidingGameObjects) {
+        int size = collidingGameObjects.size();
+        if (size > order.length) {
+            allocateObjectArrays(Math.max(size, order.length * 2));
+        }
+
+        Arrays.fill(currentIndices, 0, numberOfSortedGameObjects, -1);
+        longestProjection = 0;
+        for (int objectIdx = 0; objectIdx < size; objectIdx++) {
+            CollidingGameObject collidingGameObject = collidingGameObjects.get(objectIdx);
+            // the sorted index may have been set by the broadphase of another altitude layer
+            int sortedIdx = collidingGameObject.getSortedIndex();
+            isOrdered[objectIdx] = sortedIdx >= 0 && sortedIdx < numberOfSortedGameObjects
+                    && sortedGameObjects[sortedIdx] == collidingGameObject;
+            if (isOrdered[objectIdx]) {
+                currentIndices[sortedIdx] = objectIdx;
+            }
+
+            project(objectIdx, collidingGameObject.calculateHitBoxBounds());
+            if (!isEmpty(objectIdx)) {
+                longestProjection = Math.max(longestProjection, maxProjections[objectIdx] - minProjections[objectIdx]);
+            }
+        }
+
+        // start with the order of the last frame, new game objects are added at the end
+        int orderedObjects = 0;
+        for (int sortedIdx = 0; sortedIdx < numberOfSortedGameObjects; sortedIdx++) {
+            if (currentIndices[sortedIdx] >= 0) {
+                order[orderedObjects++] = currentIndices[sortedIdx];
+            }
+        }
+        for (int objectIdx = 0; objectIdx < size; objectIdx++) {
+            if (!isOrdered[objectIdx]) {
+                order[orderedObjects++] = objectIdx;
+            }
+        }
+
+        insertionSort(size);
+        rememberOrder(collidingGameObjects);
+        numberOfObjects = size;
+        pairsOutdated = true;
+    }
+
+    @Override
+    public int findCandidates(int objectIdx) {
+        if (pairsOutdated) {
+            sweep(numberOfObjects);
+            groupPairs(numberOfObjects);
+            pairsOutdated = false;
+        }
+
+        currentCandidates = candidates;
+        currentCandidateStart = candidateStarts[objectIdx];
+        return candidateStarts[objectIdx + 1] - currentCandidateStart;
+    }
+
+    @Override
+    public int findCandidatesInArea(double areaMinX, double areaMinY, double areaMaxX, double areaMaxY) {
+        double directionX = TravelPathCalculator.TRAVEL_DIRECTION_X;
+        double directionY = TravelPathCalculator.TRAVEL_DIRECTION_Y;
+        double areaMinProjection = (directionX >= 0 ? areaMinX : areaMaxX) * directionX
+                + (directionY >= 0 ? areaMinY : areaMaxY) * directionY;
+        double areaMaxProjection = (directionX >= 0 ? areaMaxX : areaMinX) * directionX
+                + (directionY >= 0 ? areaMaxY : areaMinY) * directionY;
+
+        int numberOfAreaCandidates = 0;
+        for (int sortedIdx = firstSortedIndexFrom(areaMinProjection - longestProjection);
+             sortedIdx < numberOfObjects && minProjections[order[sortedIdx]] <= areaMaxProjection; sortedIdx++) {
+            int objectIdx = order[sortedIdx];
+            if (!isEmpty(objectIdx)
+                    && minX[objectIdx] <= areaMaxX && areaMinX <= maxX[objectIdx]
+                    && minY[objectIdx] <= areaMaxY && areaMinY <= maxY[objectIdx]) {
+                areaCandidates[numberOfAreaCandidates++] = objectIdx;
+            }
+        }
+
+        Arrays.sort(areaCandidates, 0, numberOfAreaCandidates);
+        currentCandidates = areaCandidates;
+        currentCandidateStart = 0;
+        return numberOfAreaCandidates;
+    }
+
+    @Override
+    public int candidate(int candidateIdx) {
+        return currentCandidates[currentCandidateStart + candidateIdx];
+    }
+
+    // the first position in the sorted order whose projection starts at or after the given projection
+    private int firstSortedIndexFrom(double minProjection) {
+        int low = 0;
+        int high = numberOfObjects;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (minProjections[order[middle]] < minProjection) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void project(int objectIdx, Rectangle bounds) {
+        minX[objectIdx] = bounds.x;
+        minY[objectIdx] = bounds.y;
+        maxX[objectIdx] = bounds.x + bounds.width;
+        maxY[objectIdx] = bounds.y + bounds.height;
+
+        // the corners of the bounds that lie furthest back and furthest ahead on the travel axis
+        double directionX = TravelPathCalculator.TRAVEL_DIRECTION_X;
+        double directionY = TravelPathCalculator.TRAVEL_DIRECTION_Y;
+        minProjections[objectIdx] = (directionX >= 0 ? minX[objectIdx] : maxX[objectIdx]) * directionX
+                + (directionY >= 0 ? minY[objectIdx] : maxY[objectIdx]) * directionY;
+        maxProjections[objectIdx] = (directionX >= 0 ? maxX[objectIdx] : minX[objectIdx]) * directionX
+                + (directionY >= 0 ? maxY[objectIdx] : minY[objectIdx]) * directionY;
+    }
+
+    private void insertionSort(int size) {
+        for (int sortedIdx = 1; sortedIdx < size; sortedIdx++) {
+            int objectIdx = order[sortedIdx];
+            double minProjection = minProjections[objectIdx];
+            int insertIdx = sortedIdx;
+
+            while (insertIdx > 0 && minProjections[order[insertIdx - 1]] > minProjection) {
+                order[insertIdx] = order[insertIdx - 1];
+                insertIdx--;
+            }
+            order[insertIdx] = objectIdx;
+        }
+    }
+
+    private void rememberOrder(List<CollidingGameObject> collidingGameObjects) {
+        int size = collidingGameObjects.size();
+        if (size > sortedGameObjects.length) {
+            sortedGameObjects = new CollidingGameObject[order.length];
+            currentIndices = new int[order.length];
+        }
+        for (int sortedIdx = 0; sortedIdx < size; sortedIdx++) {
+            sortedGameObjects[sortedIdx] = collidingGameObjects.get(order[sortedIdx]);
+            sortedGameObjects[sortedIdx].setSortedIndex(sortedIdx);
+        }
+        // do not keep removed game objects alive
+        if (numberOfSortedGameObjects > size) {
+            Arrays.fill(sortedGameObjects, size, numberOfSortedGameObjects, null);
+        }
+        numberOfSortedGameObjects = size;
+    }
+
+    private void sweep(int size) {
+        numberOfPairs = 0;
+
+        for (int sortedIdx = 0; sortedIdx < size; sortedIdx++) {
+            int objectA = order[sortedIdx];
+            if (isEmpty(objectA)) {
+                continue;
+            }
+
+            for (int otherIdx = sortedIdx + 1; otherIdx < size; otherIdx++) {
+                int objectB = order[otherIdx];
+                if (minProjections[objectB] > maxProjections[objectA]) {
+                    // all following game objects start even further ahead on the travel axis
+                    break;
+                }
+                if (!isEmpty(objectB) && boundsOverlap(objectA, objectB)) {
+                    addPair(Math.min(objectA, objectB), Math.max(objectA, objectB));
+                }
+            }
+        }
+    }
+
+    private void groupPairs(int size) {
+        Arrays.fill(candidateStarts, 0, size + 1, 0);
+        for (int pairIdx = 0; pairIdx < numberOfPairs; pairIdx++) {
+            candidateStarts[pairFirst[pairIdx] + 1]++;
+        }
+        for (int objectIdx = 0; objectIdx < size; objectIdx++) {
+            candidateStarts[objectIdx + 1] += candidateStarts[objectIdx];
+        }
+
+        if (numberOfPairs > candidates.length) {
+            candidates = new int[pairFirst.length];
+        }
+        System.arraycopy(candidateStarts, 0, fillPointers, 0, size);
+        for (int pairIdx = 0; pairIdx < numberOfPairs; pairIdx++) {
+            candidates[fillPointers[pairFirst[pairIdx]]++] = pairSecond[pairIdx];
+        }
+        for (int objectIdx = 0; objectIdx < size; objectIdx++) {
+            Arrays.sort(candidates, candidateStarts[objectIdx], candidateStarts[objectIdx + 1]);
+        }
+    }
+
+    private void addPair(int first, int second) {
+        if (numberOfPairs == pairFirst.length) {
+            pairFirst = Arrays.copyOf(pairFirst, pairFirst.length * 2);
+            pairSecond = Arrays.copyOf(pairSecond, pairSecond.length * 2);
+        }
+        pairFirst[numberOfPairs] = first;
+        pairSecond[numberOfPairs] = second;
+        numberOfPairs++;
+    }
+
+    private boolean isEmpty(int objectIdx) {
+        return maxX[objectIdx] <= minX[objectIdx] || maxY[objectIdx] <= minY[objectIdx];
+    }
+
+    private boolean boundsOverlap(int objectA, int objectB) {
+        return minX[objectA] < maxX[objectB] && minX[objectB] < maxX[objectA]
+                && minY[objectA] < maxY[objectB] && minY[objectB] < maxY[objectA];
+    }
+
+    private void allocateObjectArrays(int capacity) {
+        order = new int[capacity];
+        isOrdered = new boolean[capacity];
+        minProjections = new double[capacity];
+        maxProjections = new double[capacity];
+        minX = new int[capacity];
+        minY = new int[capacity];
+        maxX = new int[capacity];
+        maxY = new int[capacity];
+        candidateStarts = new int[capacity + 1];
+        fillPointers = new int[capacity];
+        areaCandidates = new int[capacity];
+    }
+}
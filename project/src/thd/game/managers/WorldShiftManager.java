@@ -3,9 +3,9 @@ package thd.game.managers;
 import thd.game.utilities.GameView;
 import thd.gameobjects.base.ActivatableGameObject;
 import thd.gameobjects.base.GameObject;
+import thd.gameobjects.base.PositionStore;
 import thd.gameobjects.base.ShiftableGameObject;
 
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -13,16 +13,23 @@ import java.util.List;
  */
 public class WorldShiftManager extends UserControlledGameObjectPool {
     private final List<GameObject> shiftableGameObjects;
+    private final PositionStore shiftablePositions;
 
     protected WorldShiftManager(GameView gameView) {
         super(gameView);
-        shiftableGameObjects = new LinkedList<>();
+        shiftableGameObjects = new HandleList<>();
+        shiftablePositions = new PositionStore(GameSettings.USE_CAMERA_OFFSET_SCROLLING,
+                GameSettings.USE_TIME_PARAMETERIZED_MOTION);
     }
 
     protected void addToShiftableGameObjectsIfShiftable(GameObject gameObject) {
-        if (gameObject instanceof ShiftableGameObject) {
-            if (!shiftableGameObjects.contains(gameObject)) {
-                shiftableGameObjects.add(gameObject);
+        // a HandleList ignores GameObjects that are already contained
+        if (gameObject instanceof ShiftableGameObject && shiftableGameObjects.add(gameObject)) {
+            if (gameObject instanceof ActivatableGameObject) {
+                // not shifted until it is activated, see startShifting()
+                shiftablePositions.attach(gameObject, false);
+            } else {
+                shiftablePositions.attach(gameObject, true);
             }
         }
     }
@@ -32,13 +39,14 @@ public class WorldShiftManager extends UserControlledGameObjectPool {
     }
 
     protected void destroyGameObject(GameObject gameObject) {
-        if (gameObject instanceof ShiftableGameObject) {
-            shiftableGameObjects.remove(gameObject);
+        if (gameObject instanceof ShiftableGameObject && shiftableGameObjects.remove(gameObject)) {
+            shiftablePositions.detach(gameObject);
         }
     }
 
     protected void destroyAllGameObjects() {
         shiftableGameObjects.clear();
+        shiftablePositions.detachAll();
     }
 
     /**
@@ -77,17 +85,30 @@ public class WorldShiftManager extends UserControlledGameObjectPool {
         shiftGameObjects(0, pixels);
     }
 
-    private void shiftGameObjects(double shiftX, double shiftY) {
-        for (GameObject gameObject : shiftableGameObjects) {
-            // gameObject.getPosition().right(shiftX);
-            // gameObject.getPosition().down(shiftY);
-            if (gameObject instanceof ActivatableGameObject) {
-                if (!(((ActivatableGameObject<?>) gameObject).tryToActivate(null))) {
-                    continue;
-                }
-            }
+    /**
+     * Moves the game world to where it is at the given game time, instead of by a number of pixels.
+     *
+     * @param gameTimeInMilliseconds the current game time
+     * @see GameSettings#USE_TIME_PARAMETERIZED_MOTION
+     */
+    public void moveWorldToGameTime(int gameTimeInMilliseconds) {
+        shiftablePositions.moveTo(gameTimeInMilliseconds, GameSettings.SPEED_IN_PIXEL_PER_MILLISECOND);
+    }
 
-            gameObject.moveShiftableForward(shiftX);
+    /**
+     * Lets an activated GameObject move with the game world. It began to move when its spawn delay was over.
+     *
+     * @param gameObject a GameObject that is activated by time
+     */
+    protected void startShifting(GameObject gameObject) {
+        shiftablePositions.startShifting(gameObject, gameObject.getSpawnDelayInMilis());
+    }
+
+    private void shiftGameObjects(double shiftX, double shiftY) {
+        if (GameSettings.USE_CAMERA_OFFSET_SCROLLING) {
+            shiftablePositions.scroll(shiftX);
+        } else {
+            shiftablePositions.shift(shiftX);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,273 @@
+package thd.game.utilities;
+
+import thd.gameobjects.base.GameObject;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Keeps GameObjects sorted by their distanceToBackground, which is the order in which they are drawn.
+ * There is one bucket per distanceToBackground, so adding and removing a GameObject takes constant time instead of
+ * a scan through all GameObjects.
+ *
+ * <p>Within a bucket the order is the same as it used to be with a sorted list: a GameObject that is at least as far
+ * from the background as every other GameObject is added behind them, any other GameObject is added in front of the
+ * GameObjects with the same distanceToBackground. Each bucket therefore has a front part, which grows to the front,
+ * and a back part, which grows to the back.</p>
+ *
+ * <p>Removed GameObjects leave an empty slot behind, which is skipped while iterating. A bucket is compacted as soon
+ * as it has more empty slots than GameObjects. Every GameObject can only be contained once, and GameObjects must not
+ * be added or removed while iterating.</p>
+ */
+public class BucketedGameObjects implements Iterable<GameObject> {
+    private static final int INITIAL_BUCKET_CAPACITY = 8;
+    private static final int MINIMUM_EMPTY_SLOTS_TO_COMPACT = 8;
+
+    private final Map<GameObject, Slot> slots;
+    private Bucket[] buckets;
+    private int highestDistanceToBackground;
+    private int size;
+
+    /**
+     * Creates a new, empty {@code BucketedGameObjects}.
+     */
+    public BucketedGameObjects() {
+        slots = new IdentityHashMap<>();
+        buckets = new Bucket[0];
+        highestDistanceToBackground = -1;
+    }
+
+    /**
+     * Adds a GameObject at its place in the drawing order.
+     *
+     * @param toAdd the GameObject to add
+     * @return true if it was added, false if it is already contained
+     */
+    public boolean add(GameObject toAdd) {
+        if (slots.containsKey(toAdd)) {
+            return false;
+        }
+
+        int distanceToBackground = toAdd.getDistanceToBackground();
+        if (distanceToBackground >= buckets.length) {
+            growBuckets(distanceToBackground + 1);
+        }
+
+        Slot slot = new Slot(toAdd, distanceToBackground);
+        Bucket bucket = buckets[distanceToBackground];
+        if (distanceToBackground >= highestDistanceToBackground) {
+            bucket.addBack(slot);
+            highestDistanceToBackground = distanceToBackground;
+        } else {
+            bucket.addFront(slot);
+        }
+
+        slots.put(toAdd, slot);
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes a GameObject.
+     *
+     * @param toRemove the GameObject to remove
+     * @return true if it was contained
+     */
+    public boolean remove(GameObject toRemove) {
+        Slot slot = slots.remove(toRemove);
+        if (slot == null) {
+            return false;
+        }
+
+        Bucket bucket = buckets[slot.bucketIdx];
+        bucket.remove(slot);
+        size--;
+
+        // the highest distanceToBackground decides whether GameObjects are added to the front or to the back
+        while (highestDistanceToBackground >= 0 && buckets[highestDistanceToBackground].numberOfGameObjects == 0) {
+            highestDistanceToBackground--;
+        }
+        return true;
+    }
+
+    /**
+     * Moves a GameObject to the bucket of its current distanceToBackground, as if it was removed and added again.
+     * Nothing happens if the GameObject is not contained or is already in the right bucket.
+     *
+     * @param toMove the GameObject whose distanceToBackground may have changed
+     * @return true if it was moved
+     */
+    public boolean move(GameObject toMove) {
+        Slot slot = slots.get(toMove);
+        if (slot == null || slot.bucketIdx == toMove.getDistanceToBackground()) {
+            return false;
+        }
+
+        remove(toMove);
+        add(toMove);
+        return true;
+    }
+
+    /**
+     * Returns the number of contained GameObjects.
+     *
+     * @return the number of GameObjects
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if no GameObject is contained.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Iterates over all GameObjects in drawing order, from the background to the foreground.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<GameObject> iterator() {
+        return new DrawingOrderIterator();
+    }
+
+    private void growBuckets(int numberOfBuckets) {
+        int oldNumberOfBuckets = buckets.length;
+        buckets = Arrays.copyOf(buckets, numberOfBuckets);
+        for (int bucketIdx = oldNumberOfBuckets; bucketIdx < numberOfBuckets; bucketIdx++) {
+            buckets[bucketIdx] = new Bucket();
+        }
+    }
+
+    private static final class Slot {
+        private final GameObject gameObject;
+        private final int bucketIdx;
+        private boolean isInFront;
+        private int index;
+
+        private Slot(GameObject gameObject, int bucketIdx) {
+            this.gameObject = gameObject;
+            this.bucketIdx = bucketIdx;
+        }
+    }
+
+    private static final class Bucket {
+        // the front part is stored in the order in which it was added, so it is iterated backwards
+        private Slot[] front = new Slot[INITIAL_BUCKET_CAPACITY];
+        private int frontSize;
+        private Slot[] back = new Slot[INITIAL_BUCKET_CAPACITY];
+        private int backSize;
+        private int numberOfGameObjects;
+
+        private void addFront(Slot slot) {
+            if (frontSize == front.length) {
+                front = Arrays.copyOf(front, frontSize * 2);
+            }
+            slot.isInFront = true;
+            slot.index = frontSize;
+            front[frontSize++] = slot;
+            numberOfGameObjects++;
+        }
+
+        private void addBack(Slot slot) {
+            if (backSize == back.length) {
+                back = Arrays.copyOf(back, backSize * 2);
+            }
+            slot.isInFront = false;
+            slot.index = backSize;
+            back[backSize++] = slot;
+            numberOfGameObjects++;
+        }
+
+        private void remove(Slot slot) {
+            if (slot.isInFront) {
+                front[slot.index] = null;
+            } else {
+                back[slot.index] = null;
+            }
+            numberOfGameObjects--;
+
+            int emptySlots = frontSize + backSize - numberOfGameObjects;
+            if (numberOfGameObjects == 0) {
+                // all slots are empty already
+                frontSize = 0;
+                backSize = 0;
+            } else if (emptySlots >= MINIMUM_EMPTY_SLOTS_TO_COMPACT && emptySlots > numberOfGameObjects) {
+                frontSize = compact(front, frontSize);
+                backSize = compact(back, backSize);
+            }
+        }
+
+        private static int compact(Slot[] part, int partSize) {
+            int newSize = 0;
+            for (int i = 0; i < partSize; i++) {
+                if (part[i] != null) {
+                    part[i].index = newSize;
+                    part[newSize++] = part[i];
+                }
+            }
+            Arrays.fill(part, newSize, partSize, null);
+            return newSize;
+        }
+    }
+
+    private final class DrawingOrderIterator implements Iterator<GameObject> {
+        private int bucketIdx;
+        // counts down through the front part (from frontSize - 1 to 0), then up through the back part
+        private boolean isInFront;
+        private int index;
+        private Slot next;
+
+        private DrawingOrderIterator() {
+            bucketIdx = -1;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public GameObject next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            GameObject gameObject = next.gameObject;
+            advance();
+            return gameObject;
+        }
+
+        private void advance() {
+            next = null;
+            while (next == null) {
+                if (bucketIdx >= 0 && isInFront && index > 0) {
+                    next = buckets[bucketIdx].front[--index];
+
+                } else if (bucketIdx >= 0 && isInFront) {
+                    isInFront = false;
+                    index = 0;
+
+                } else if (bucketIdx >= 0 && index < buckets[bucketIdx].backSize) {
+                    next = buckets[bucketIdx].back[index++];
+
+                } else if (bucketIdx + 1 < buckets.length) {
+                    bucketIdx++;
+                    isInFront = true;
+                    index = buckets[bucketIdx].frontSize;
+
+                } else {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -1,7 +0,0 @@
-package thd.game.utilities;
-
-/**
- * For GameObjects that can change their altitude and therefore their distanceToBackground.
- */
-public interface DynamicZIndexGameObject {
-}
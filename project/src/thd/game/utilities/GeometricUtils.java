@@ -3,6 +3,8 @@ package thd.game.utilities;
 import thd.gameobjects.base.Position;
 import thd.gameobjects.base.Vector2d;
 
+import java.awt.*;
+
 /**
  * A class that includes various utility methods for geometry, that every
  * {@code GameObject} has access to.
@@ -91,6 +93,97 @@ public final class GeometricUtils {
         return new Position(intersection);
     }
 
+    /**
+     * Calculates where a ray enters an axis-aligned rectangle. The ray reaches
+     * {@code (originX + t * directionX, originY + t * directionY)} for every {@code t} between 0 and
+     * {@code maxParameter}.
+     *
+     * @param originX      x-coordinate of the start of the ray
+     * @param originY      y-coordinate of the start of the ray
+     * @param directionX   x-component of the direction of the ray
+     * @param directionY   y-component of the direction of the ray
+     * @param maxParameter the largest {@code t} that belongs to the ray
+     * @param x            x-coordinate of the rectangle
+     * @param y            y-coordinate of the rectangle
+     * @param width        width of the rectangle
+     * @param height       height of the rectangle
+     * @return the smallest {@code t} at which the ray is inside the rectangle,
+     *         or {@link Double#POSITIVE_INFINITY} if it misses the rectangle
+     */
+    public static double calculateRayEntry(double originX, double originY, double directionX, double directionY,
+                                           double maxParameter, double x, double y, double width, double height) {
+        // the range of t in which the ray is inside both slabs of the rectangle
+        double entry = 0;
+        double exit = maxParameter;
+
+        if (directionX == 0) {
+            if (originX < x || originX > x + width) {
+                return Double.POSITIVE_INFINITY;
+            }
+        } else {
+            double nearX = (x - originX) / directionX;
+            double farX = (x + width - originX) / directionX;
+            entry = Math.max(entry, Math.min(nearX, farX));
+            exit = Math.min(exit, Math.max(nearX, farX));
+        }
+
+        if (directionY == 0) {
+            if (originY < y || originY > y + height) {
+                return Double.POSITIVE_INFINITY;
+            }
+        } else {
+            double nearY = (y - originY) / directionY;
+            double farY = (y + height - originY) / directionY;
+            entry = Math.max(entry, Math.min(nearY, farY));
+            exit = Math.min(exit, Math.max(nearY, farY));
+        }
+
+        return entry <= exit ? entry : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Calculates where a ray enters a polygon. The ray reaches
+     * {@code (originX + t * directionX, originY + t * directionY)} for every {@code t} between 0 and
+     * {@code maxParameter}. The polygon does not have to be convex.
+     *
+     * @param polygon      the polygon
+     * @param originX      x-coordinate of the start of the ray
+     * @param originY      y-coordinate of the start of the ray
+     * @param directionX   x-component of the direction of the ray
+     * @param directionY   y-component of the direction of the ray
+     * @param maxParameter the largest {@code t} that belongs to the ray
+     * @return the smallest {@code t} at which the ray is inside the polygon,
+     *         or {@link Double#POSITIVE_INFINITY} if it misses the polygon
+     */
+    public static double calculateRayEntry(Polygon polygon, double originX, double originY,
+                                           double directionX, double directionY, double maxParameter) {
+        if (polygon.contains(originX, originY)) {
+            return 0;
+        }
+
+        // the ray enters the polygon where it first crosses one of its edges
+        double entry = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < polygon.npoints; i++) {
+            int next = (i + 1) % polygon.npoints;
+            double edgeX = polygon.xpoints[next] - polygon.xpoints[i];
+            double edgeY = polygon.ypoints[next] - polygon.ypoints[i];
+            double denominator = directionX * edgeY - directionY * edgeX;
+            if (denominator == 0) {
+                continue;
+            }
+
+            double toCornerX = polygon.xpoints[i] - originX;
+            double toCornerY = polygon.ypoints[i] - originY;
+            double rayParameter = (toCornerX * edgeY - toCornerY * edgeX) / denominator;
+            double edgeParameter = (toCornerX * directionY - toCornerY * directionX) / denominator;
+
+            if (rayParameter >= 0 && rayParameter <= maxParameter && edgeParameter >= 0 && edgeParameter <= 1) {
+                entry = Math.min(entry, rayParameter);
+            }
+        }
+        return entry;
+    }
+
     /**
      * Calculates the Position and Direction Vector for a 2d line from two points.
      *
@@ -0,0 +1,201 @@
+package thd.game.utilities;
+
+/**
+ * Intersection tests for convex polygons and rectangles based on the Separating Axis Theorem.
+ * Two convex shapes do not overlap, if there is an axis (one of the edge normals of both shapes) on which their
+ * projections do not overlap.
+ *
+ * <p>All tests work on the primitive coordinate arrays of {@link java.awt.Polygon}s and do not allocate anything.
+ * Polygons keep their relative corners, a translation is passed separately.
+ * Shapes that only touch each other do not overlap, which is the same result as intersecting two
+ * {@link java.awt.geom.Area}s and checking {@link java.awt.geom.Area#isEmpty()}.</p>
+ */
+public final class SeparatingAxisTest {
+
+    // Private constructor to prevent instantiation
+    private SeparatingAxisTest() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Checks if two convex polygons overlap. The second polygon is translated by the given offset, which allows to
+     * test polygons that are stored relatively to the position of their game objects without moving any corner.
+     * Both polygons have to pass {@link #isConvex(int[], int[], int)}.
+     *
+     * @param xPointsA x-coordinates of the first polygon
+     * @param yPointsA y-coordinates of the first polygon
+     * @param nPointsA number of corners of the first polygon
+     * @param xPointsB x-coordinates of the second polygon
+     * @param yPointsB y-coordinates of the second polygon
+     * @param nPointsB number of corners of the second polygon
+     * @param offsetX  translation of the second polygon in x-direction, relative to the first polygon
+     * @param offsetY  translation of the second polygon in y-direction, relative to the first polygon
+     * @return true if the polygons share an area
+     */
+    public static boolean convexPolygonsOverlap(int[] xPointsA, int[] yPointsA, int nPointsA,
+                                                int[] xPointsB, int[] yPointsB, int nPointsB,
+                                                double offsetX, double offsetY) {
+        return !hasSeparatingEdge(xPointsA, yPointsA, nPointsA, xPointsB, yPointsB, nPointsB, offsetX, offsetY)
+                && !hasSeparatingEdge(xPointsB, yPointsB, nPointsB, xPointsA, yPointsA, nPointsA, -offsetX, -offsetY);
+    }
+
+    /**
+     * Checks if a convex polygon overlaps an axis-aligned rectangle.
+     * The rectangle is given in the coordinate system of the polygon.
+     * The polygon has to pass {@link #isConvex(int[], int[], int)}.
+     *
+     * @param xPoints x-coordinates of the polygon
+     * @param yPoints y-coordinates of the polygon
+     * @param nPoints number of corners of the polygon
+     * @param x       x-coordinate of the rectangle
+     * @param y       y-coordinate of the rectangle
+     * @param width   width of the rectangle
+     * @param height  height of the rectangle
+     * @return true if the polygon and the rectangle share an area
+     */
+    public static boolean convexPolygonOverlapsRectangle(int[] xPoints, int[] yPoints, int nPoints,
+                                                         double x, double y, double width, double height) {
+        if (width <= 0 || height <= 0) {
+            return false;
+        }
+
+        // axes of the rectangle
+        int minX = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (int i = 0; i < nPoints; i++) {
+            minX = Math.min(minX, xPoints[i]);
+            maxX = Math.max(maxX, xPoints[i]);
+            minY = Math.min(minY, yPoints[i]);
+            maxY = Math.max(maxY, yPoints[i]);
+        }
+        if (maxX <= x || x + width <= minX || maxY <= y || y + height <= minY) {
+            return false;
+        }
+
+        // edge normals of the polygon
+        for (int i = 0; i < nPoints; i++) {
+            int next = (i + 1) % nPoints;
+            long normalX = yPoints[next] - yPoints[i];
+            long normalY = xPoints[i] - xPoints[next];
+            if (normalX == 0 && normalY == 0) {
+                continue;
+            }
+
+            long minPolygon = Long.MAX_VALUE;
+            long maxPolygon = Long.MIN_VALUE;
+            for (int j = 0; j < nPoints; j++) {
+                long projection = normalX * xPoints[j] + normalY * yPoints[j];
+                minPolygon = Math.min(minPolygon, projection);
+                maxPolygon = Math.max(maxPolygon, projection);
+            }
+
+            // the rectangle corners that lie furthest in both directions of the normal
+            double projectionX1 = normalX * x;
+            double projectionX2 = normalX * (x + width);
+            double projectionY1 = normalY * y;
+            double projectionY2 = normalY * (y + height);
+            double minRectangle = Math.min(projectionX1, projectionX2) + Math.min(projectionY1, projectionY2);
+            double maxRectangle = Math.max(projectionX1, projectionX2) + Math.max(projectionY1, projectionY2);
+
+            if (maxPolygon <= minRectangle || maxRectangle <= minPolygon) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if a polygon is convex, simple and has a positive area, which is required for the other tests.
+     * Consecutive duplicate or collinear corners are allowed.
+     *
+     * @param xPoints x-coordinates of the polygon
+     * @param yPoints y-coordinates of the polygon
+     * @param nPoints number of corners of the polygon
+     * @return true if the polygon can be used for the separating axis tests
+     */
+    public static boolean isConvex(int[] xPoints, int[] yPoints, int nPoints) {
+        if (nPoints < 3) {
+            return false;
+        }
+
+        boolean hasLeftTurn = false;
+        boolean hasRightTurn = false;
+        int directionChangesX = 0;
+        long previousEdgeX = 0;
+        long doubleArea = 0;
+
+        for (int i = 0; i < nPoints; i++) {
+            int next = (i + 1) % nPoints;
+            int afterNext = (i + 2) % nPoints;
+
+            long edgeX = xPoints[next] - xPoints[i];
+            long edgeY = yPoints[next] - yPoints[i];
+            long nextEdgeX = xPoints[afterNext] - xPoints[next];
+            long nextEdgeY = yPoints[afterNext] - yPoints[next];
+
+            long cross = edgeX * nextEdgeY - edgeY * nextEdgeX;
+            hasLeftTurn |= cross > 0;
+            hasRightTurn |= cross < 0;
+
+            // a simple convex polygon changes its horizontal direction at most twice
+            if (edgeX != 0) {
+                if (previousEdgeX != 0 && (edgeX > 0) != (previousEdgeX > 0)) {
+                    directionChangesX++;
+                }
+                previousEdgeX = edgeX;
+            }
+
+            doubleArea += (long) xPoints[i] * yPoints[next] - (long) xPoints[next] * yPoints[i];
+        }
+
+        // direction change between the last and the first edge with a horizontal component
+        long firstEdgeX = 0;
+        for (int i = 0; i < nPoints && firstEdgeX == 0; i++) {
+            firstEdgeX = xPoints[(i + 1) % nPoints] - xPoints[i];
+        }
+        if (firstEdgeX != 0 && (firstEdgeX > 0) != (previousEdgeX > 0)) {
+            directionChangesX++;
+        }
+
+        return !(hasLeftTurn && hasRightTurn) && directionChangesX <= 2 && doubleArea != 0;
+    }
+
+    private static boolean hasSeparatingEdge(int[] xPointsA, int[] yPointsA, int nPointsA,
+                                             int[] xPointsB, int[] yPointsB, int nPointsB,
+                                             double offsetX, double offsetY) {
+        for (int i = 0; i < nPointsA; i++) {
+            int next = (i + 1) % nPointsA;
+            long normalX = yPointsA[next] - yPointsA[i];
+            long normalY = xPointsA[i] - xPointsA[next];
+            if (normalX == 0 && normalY == 0) {
+                continue;
+            }
+
+            long minA = Long.MAX_VALUE;
+            long maxA = Long.MIN_VALUE;
+            for (int j = 0; j < nPointsA; j++) {
+                long projection = normalX * xPointsA[j] + normalY * yPointsA[j];
+                minA = Math.min(minA, projection);
+                maxA = Math.max(maxA, projection);
+            }
+
+            long minB = Long.MAX_VALUE;
+            long maxB = Long.MIN_VALUE;
+            for (int j = 0; j < nPointsB; j++) {
+                long projection = normalX * xPointsB[j] + normalY * yPointsB[j];
+                minB = Math.min(minB, projection);
+                maxB = Math.max(maxB, projection);
+            }
+
+            // translating B shifts all of its projections by the same amount
+            double offsetProjection = normalX * offsetX + normalY * offsetY;
+            if (maxA <= minB + offsetProjection || maxB + offsetProjection <= minA) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -30,6 +30,10 @@ public final class TravelPathCalculator {
     public static final double DISTANCE_TO_DESPAWN_LINE = SPAWN_LINE[0].distance(DESPAWN_LINE[0]);
     /** The distance from the spawn line to the player's designated movement line. */
     public static final double DISTANCE_PLAYER_MOVEMENT_TO_SPAWN_LINE = SPAWN_LINE[0].distance(PLAYER_MOVEMENT_LINE[0]);
+    /** The x-component of the unit vector in which stationary game objects travel from the spawn to the despawn line. */
+    public static final double TRAVEL_DIRECTION_X = -Math.cos(GameSettings.MOVEMENT_ANGLE_IN_RADIANS);
+    /** The y-component of the unit vector in which stationary game objects travel from the spawn to the despawn line. */
+    public static final double TRAVEL_DIRECTION_Y = Math.sin(GameSettings.MOVEMENT_ANGLE_IN_RADIANS);
 
 
     private static final double[][] ISOMETRIC_PROJECTION_MATRIX = new double[][]{
@@ -1,5 +1,8 @@
 package thd.game.utilities;
 
+import thd.game.managers.GameSettings;
+import thd.gameobjects.base.BandHitbox;
+
 import java.util.ArrayList;
 
 import static thd.game.utilities.WallBlockImages.FULL_BLOCK_FRONT;
@@ -165,7 +168,8 @@ public class WallBlockGraphicUtils {
      *
      * <ol>
      *   <li>The BlockGraphic String for {@link GameView#addBlockImageToCanvas(String, double, double, double, double)}</li>
-     *   <li>The hitboxes for {@link thd.gameobjects.base.CollidingGameObject}</li>
+     *   <li>The hitboxes for {@link thd.gameobjects.base.CollidingGameObject}, as indices and as
+     *   {@link BandHitbox}</li>
      * </ol>
      */
     public static final class DynamicWall {
@@ -178,6 +182,10 @@ public class WallBlockGraphicUtils {
          * The indices for the hitboxes for this DynamicWall.
          */
         public final ArrayList<ArrayList<int[]>> hitboxIndicesInRows;
+        /**
+         * The compound hitbox for each row of the wall, shared by all walls built from this DynamicWall.
+         */
+        public final BandHitbox[] bandHitboxesInRows;
 
         /**
          * Creates a new {@code DynamicWall} instance.
@@ -189,6 +197,13 @@ public class WallBlockGraphicUtils {
                            ArrayList<ArrayList<int[]>> hitboxesInRows) {
             this.wallBlockImageInRows = wallBlockImageInRows;
             this.hitboxIndicesInRows = hitboxesInRows;
+
+            bandHitboxesInRows = new BandHitbox[hitboxesInRows.size()];
+            for (int y = 0; y < hitboxesInRows.size(); y++) {
+                bandHitboxesInRows[y] = GameSettings.USE_WALL_BLOCK_MASKS
+                        ? WallBuildingService.calcBlockMaskHitbox(hitboxesInRows.get(y))
+                        : WallBuildingService.calcIntervalHitbox(hitboxesInRows.get(y));
+            }
         }
     }
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package thd.game.utilities;
 
+import thd.game.managers.GameSettings;
+import thd.gameobjects.base.BlockMaskHitbox;
+import thd.gameobjects.base.IntervalHitbox;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -27,6 +31,11 @@ public class WallBuildingService { // Package-private access
      * This refers to the vertical offset after a half block.
      */
     public static final int HALF_BLOCK_INCREASE_OFFSET_Y = 4;
+    /**
+     * The size of every {@link thd.gameobjects.movable.WallRow}. It is calculated, so that when the player flies over
+     * a wall, the wall actually looks lower than the player.
+     */
+    public static final double WALL_ROW_SIZE = Math.floor(GameSettings.MAX_PLAYER_ALTITUDE / (9 * FULL_BLOCK_INCREASE_OFFSET_Y));
 
 
     private static final int FULL_BLOCK_TOP_OFFSET_X = 0;
@@ -273,4 +282,51 @@ public class WallBuildingService { // Package-private access
 
         return hitboxesInRows;
     }
+
+    /**
+     * Calculates the compound hitbox of one wall row from its hitbox indices as bitmask with one bit per half block,
+     * which is the resolution of the wall description.
+     * It describes the same area as the projected hitbox polygons of a {@link thd.gameobjects.movable.WallRow}.
+     *
+     * @param hitboxIndices the first and last block index of every run of blocks in the row
+     * @return the hitbox relative to the position of the row
+     */
+    static BlockMaskHitbox calcBlockMaskHitbox(ArrayList<int[]> hitboxIndices) { // Package-private access
+        int numberOfColumns = 0;
+        for (int[] idx : hitboxIndices) {
+            numberOfColumns = Math.max(numberOfColumns, idx[1] + 1);
+        }
+
+        long[] occupancyMask = new long[(numberOfColumns + 63) / 64];
+        for (int[] idx : hitboxIndices) {
+            for (int column = idx[0]; column <= idx[1]; column++) {
+                occupancyMask[column / 64] |= 1L << column;
+            }
+        }
+
+        // the stretched isometric projection maps (x, y) to (x, tan * x - y)
+        return new BlockMaskHitbox(occupancyMask, numberOfColumns, WALL_ROW_SIZE * HALF_BLOCK_INCREASE_OFFSET_X,
+                Math.tan(GameSettings.MOVEMENT_ANGLE_IN_RADIANS), WALL_ROW_SIZE * FULL_BLOCK_INCREASE_OFFSET_Y);
+    }
+
+    /**
+     * Calculates the compound hitbox of one wall row from its hitbox indices as sorted list of intervals.
+     * It describes the same area as the projected hitbox polygons of a {@link thd.gameobjects.movable.WallRow}.
+     *
+     * @param hitboxIndices the first and last block index of every run of blocks in the row
+     * @return the hitbox relative to the position of the row
+     */
+    static IntervalHitbox calcIntervalHitbox(ArrayList<int[]> hitboxIndices) { // Package-private access
+        ArrayList<double[]> intervals = new ArrayList<>(hitboxIndices.size());
+        for (int[] idx : hitboxIndices) {
+            intervals.add(new double[]{
+                    idx[0] * WALL_ROW_SIZE * HALF_BLOCK_INCREASE_OFFSET_X,
+                    (idx[1] + 1) * WALL_ROW_SIZE * HALF_BLOCK_INCREASE_OFFSET_X
+            });
+        }
+
+        // the stretched isometric projection maps (x, y) to (x, tan * x - y)
+        return new IntervalHitbox(intervals, Math.tan(GameSettings.MOVEMENT_ANGLE_IN_RADIANS),
+                WALL_ROW_SIZE * FULL_BLOCK_INCREASE_OFFSET_Y);
+    }
 }
@@ -0,0 +1,85 @@
+package thd.gameobjects.base;
+
+/**
+ * A compound hitbox made of parallelograms that lie side by side along one axis, like the bricks of a
+ * {@link thd.gameobjects.movable.WallRow}. At every occupied x-coordinate it covers
+ * {@code slope * x <= y <= slope * x + thickness}. Subclasses decide how the occupied x-coordinates are stored.
+ *
+ * <p>Band hitboxes are immutable and work in coordinates relative to their game object, so one instance can be
+ * shared by every game object with the same shape.</p>
+ */
+public abstract class BandHitbox {
+    private final double slope;
+    private final double thickness;
+
+    /**
+     * Creates a new {@code BandHitbox}.
+     *
+     * @param slope     the slope of the band that all parts lie in
+     * @param thickness the vertical thickness of the band
+     */
+    protected BandHitbox(double slope, double thickness) {
+        this.slope = slope;
+        this.thickness = thickness;
+    }
+
+    /**
+     * Checks if a point lies inside this hitbox.
+     *
+     * @param x x-coordinate relative to the game object
+     * @param y y-coordinate relative to the game object
+     * @return true if the point lies inside
+     */
+    public final boolean contains(double x, double y) {
+        double heightAboveBand = y - slope * x;
+        return heightAboveBand >= 0 && heightAboveBand <= thickness && isOccupied(x);
+    }
+
+    /**
+     * Checks if this hitbox and an axis-aligned rectangle share an area.
+     * Shapes that only touch each other do not overlap.
+     *
+     * @param x      x-coordinate of the rectangle, relative to the game object
+     * @param y      y-coordinate of the rectangle, relative to the game object
+     * @param width  width of the rectangle
+     * @param height height of the rectangle
+     * @return true if both share an area
+     */
+    public final boolean overlapsRectangle(double x, double y, double width, double height) {
+        if (width <= 0 || height <= 0) {
+            return false;
+        }
+
+        // the band overlaps the rectangle vertically only for x between low and high
+        double low = x;
+        double high = x + width;
+        if (slope > 0) {
+            low = Math.max(low, (y - thickness) / slope);
+            high = Math.min(high, (y + height) / slope);
+        } else if (slope < 0) {
+            low = Math.max(low, (y + height) / slope);
+            high = Math.min(high, (y - thickness) / slope);
+        } else if (y + height <= 0 || thickness <= y) {
+            return false;
+        }
+
+        return low < high && isAnyOccupied(low, high);
+    }
+
+    /**
+     * Checks if a part of the hitbox covers the given x-coordinate.
+     *
+     * @param x x-coordinate relative to the game object
+     * @return true if it is covered
+     */
+    protected abstract boolean isOccupied(double x);
+
+    /**
+     * Checks if a part of the hitbox covers any x-coordinate strictly between low and high.
+     *
+     * @param low  the lower bound, excluded
+     * @param high the upper bound, excluded
+     * @return true if any x-coordinate in between is covered
+     */
+    protected abstract boolean isAnyOccupied(double low, double high);
+}
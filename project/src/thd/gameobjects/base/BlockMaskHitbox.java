@@ -0,0 +1,64 @@
+package thd.gameobjects.base;
+
+/**
+ * A {@link BandHitbox} on a raster of equally wide columns, e.g. the half blocks of a
+ * {@link thd.gameobjects.movable.WallRow}. The occupied columns are packed into a {@code long[]} mask with one bit
+ * per column, so a test against a rectangle is a few word-level ANDs.
+ */
+public final class BlockMaskHitbox extends BandHitbox {
+    private final long[] occupancyMask;
+    private final int numberOfColumns;
+    private final double columnWidth;
+
+    /**
+     * Creates a new {@code BlockMaskHitbox}.
+     *
+     * @param occupancyMask   bit {@code c % 64} of word {@code c / 64} is set if column {@code c} is occupied
+     * @param numberOfColumns the number of columns in the mask
+     * @param columnWidth     the width of one column, column {@code c} covers {@code [c * width, (c + 1) * width]}
+     * @param slope           the slope of the band that all parts lie in
+     * @param thickness       the vertical thickness of the band
+     */
+    public BlockMaskHitbox(long[] occupancyMask, int numberOfColumns, double columnWidth, double slope,
+                           double thickness) {
+        super(slope, thickness);
+        this.occupancyMask = occupancyMask.clone();
+        this.numberOfColumns = numberOfColumns;
+        this.columnWidth = columnWidth;
+    }
+
+    @Override
+    protected boolean isOccupied(double x) {
+        if (x < 0) {
+            return false;
+        }
+        long column = (long) Math.floor(x / columnWidth);
+        return column < numberOfColumns && (occupancyMask[(int) (column >>> 6)] & (1L << column)) != 0;
+    }
+
+    @Override
+    protected boolean isAnyOccupied(double low, double high) {
+        // columns that overlap the open range between low and high
+        long firstColumn = Math.max(0, (long) Math.floor(low / columnWidth));
+        long lastColumn = Math.min(numberOfColumns - 1, (long) Math.ceil(high / columnWidth) - 1);
+        if (firstColumn > lastColumn) {
+            return false;
+        }
+
+        int firstWord = (int) (firstColumn >>> 6);
+        int lastWord = (int) (lastColumn >>> 6);
+        for (int word = firstWord; word <= lastWord; word++) {
+            long rangeMask = -1L;
+            if (word == firstWord) {
+                rangeMask &= -1L << firstColumn;
+            }
+            if (word == lastWord) {
+                rangeMask &= -1L >>> (63 - (lastColumn & 63));
+            }
+            if ((occupancyMask[word] & rangeMask) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
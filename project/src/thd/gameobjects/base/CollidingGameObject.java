@@ -1,13 +1,14 @@
 package thd.gameobjects.base;
 
 import thd.game.managers.GamePlayManager;
+import thd.game.managers.GameSettings;
 import thd.game.utilities.GameView;
-import thd.gameobjects.movable.*;
+import thd.game.utilities.GeometricUtils;
+import thd.game.utilities.SeparatingAxisTest;
 
 import java.awt.*;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Area;
-import java.util.Arrays;
-import java.util.Objects;
 
 /**
  * Game objects that are able to collide with other game objects.
@@ -15,7 +16,26 @@ import java.util.Objects;
 public abstract class CollidingGameObject extends GameObject {
     private Rectangle hitBoxRectangle;
     private Polygon[] relativeHitboxPolygons;
-    private Polygon[] absoluteHitboxPolygons;
+    private boolean relativeHitboxPolygonsConvex;
+    private BandHitbox bandHitbox;
+    private final Rectangle hitBoxBounds = new Rectangle();
+    private final Rectangle relativeHitBoxBounds = new Rectangle();
+
+    // only counted if GameSettings.COUNT_BOUNDING_BOX_CHECKS is set, the hitbox tests run sequentially then
+    private static int boundingBoxChecks;
+    private static int boundingBoxRejections;
+
+    // hitbox cache: every hitbox is updated at most once per frame
+    private static int currentHitBoxFrame;
+    private static boolean hitBoxFrameOpen;
+    private int hitBoxFrame = -1;
+
+    // where this game object was in the sorted order of a broadphase in the last frame
+    private int sortedIndex = -1;
+
+    // polygonal hitboxes are never moved, they are only translated by this vector into the screen
+    private double hitBoxTranslationX;
+    private double hitBoxTranslationY;
 
     private double hitBoxOffsetX;
     private double hitBoxOffsetY;
@@ -24,6 +44,11 @@ public abstract class CollidingGameObject extends GameObject {
 
     protected int altitudeLevel;
 
+    private final CollisionCategory collisionCategory;
+    private int collisionCategoryBit;
+    private int collisionReactionMask;
+    private int collisionInteractionMask;
+
     /**
      * The maximum altitude level any GameObject can be.
      */
@@ -36,11 +61,13 @@ public abstract class CollidingGameObject extends GameObject {
      * @param gamePlayManager       Controls the game play.
      * @param altitudeLevel         the altitude of the GameObject
      * @param isRectangular         if true: use rectangular hitbox, else use polygonal
+     * @param collisionCategory     the {@link CollisionCategory} of the GameObject
      * @param spawnDelayInMilis            measure for how long before GameObject enters the Screen
      * @param spawnLineInter        interpolation factor: where on the SpawnLine to spawn the object
      */
-    public CollidingGameObject(GameView gameView, GamePlayManager gamePlayManager, int altitudeLevel, boolean isRectangular, int spawnDelayInMilis, double spawnLineInter) {
+    public CollidingGameObject(GameView gameView, GamePlayManager gamePlayManager, int altitudeLevel, boolean isRectangular, CollisionCategory collisionCategory, int spawnDelayInMilis, double spawnLineInter) {
         super(gameView, gamePlayManager, spawnDelayInMilis, spawnLineInter);
+        this.collisionCategory = collisionCategory;
         initializer(altitudeLevel, isRectangular);
     }
 
@@ -51,9 +78,11 @@ public abstract class CollidingGameObject extends GameObject {
      * @param gamePlayManager Controls the game play.
      * @param altitudeLevel   the altitude of the GameObject
      * @param isRectangular   if true: use rectangular hitbox, else use polygonal
+     * @param collisionCategory the {@link CollisionCategory} of the GameObject
      */
-    public CollidingGameObject(GameView gameView, GamePlayManager gamePlayManager, int altitudeLevel, boolean isRectangular) {
+    public CollidingGameObject(GameView gameView, GamePlayManager gamePlayManager, int altitudeLevel, boolean isRectangular, CollisionCategory collisionCategory) {
         super(gameView, gamePlayManager);
+        this.collisionCategory = collisionCategory;
         initializer(altitudeLevel, isRectangular);
     }
 
@@ -65,40 +94,83 @@ public abstract class CollidingGameObject extends GameObject {
         } else {
             hitBoxRectangle = null;
             relativeHitboxPolygons = new Polygon[0];
-            absoluteHitboxPolygons = new Polygon[0];
         }
         this.altitudeLevel = altitudeLevel;
         distanceToBackground = (char) (altitudeLevel + 5);
+
+        collisionCategoryBit = collisionCategory.bit();
+        collisionReactionMask = collisionCategory.reactionMask();
+        collisionInteractionMask = collisionCategory.interactionMask();
+    }
+
+    /**
+     * Returns the {@link CollisionCategory} of this game object, which it was created with.
+     *
+     * @return the collision category
+     */
+    public final CollisionCategory getCollisionCategory() {
+        return collisionCategory;
+    }
+
+    /**
+     * Checks if this game object has to be checked for collisions with the other game object at all,
+     * i.e. if at least one of them reacts to the other.
+     *
+     * @param other The other game object.
+     * @return <code>true</code> if a collision between both game objects would cause a reaction
+     */
+    public final boolean interactsWith(CollidingGameObject other) {
+        return (collisionInteractionMask & other.collisionCategoryBit) != 0;
     }
 
-    private boolean isEnemyGameObject(CollidingGameObject obj) {
-        return
-                obj instanceof EnemyShooter
-                || obj instanceof EnergyBarrier
-                || obj instanceof FuelTank
-                || obj instanceof GunEmplacement
-                || obj instanceof RadarTower
-                || obj instanceof WallRow
-                || obj instanceof VerticalRocket;
+    /**
+     * Checks if this game object reacts to a collision with the other game object.
+     *
+     * @param other The other game object.
+     * @return <code>true</code> if {@link #reactToCollisionWith(CollidingGameObject)} has an effect for the other
+     *         game object
+     */
+    public final boolean reactsTo(CollidingGameObject other) {
+        return (collisionReactionMask & other.collisionCategoryBit) != 0;
     }
 
     /**
-     * Determines if this game object currently collides with the other game object. Both hitboxes are updated before
-     * detection.
+     * Determines if this game object currently collides with the other game object. Game objects that do not
+     * interact (see {@link #interactsWith(CollidingGameObject)}) or are on different altitude levels never collide,
+     * otherwise both hitboxes are updated before detection.
      *
      * @param other The other game object.
      * @return <code>true</code> if the there was a collision.
      */
     public final boolean collidesWith(CollidingGameObject other) {
-        updateHitBox();
-        other.updateHitBox();
-
-        if (getAltitudeLevel() != other.getAltitudeLevel()) {
+        if (!interactsWith(other) || getAltitudeLevel() != other.getAltitudeLevel()) {
             return false;
         }
 
-        // optimization
-        if (isEnemyGameObject(this) && isEnemyGameObject(other)) {
+        prepareHitBox();
+        other.prepareHitBox();
+        return testCollisionWith(other);
+    }
+
+    /**
+     * Updates the hitbox, so that {@link #testCollisionWith(CollidingGameObject)} can read it. Inside an open hitbox
+     * frame (see {@link #openHitBoxFrame()}) the hitbox is updated at most once.
+     */
+    public final void prepareHitBox() {
+        updateHitBox();
+    }
+
+    /**
+     * Determines if this game object collides with the other game object, like
+     * {@link #collidesWith(CollidingGameObject)}, but with the hitboxes as they were last prepared by
+     * {@link #prepareHitBox()}. Neither game object is changed, so tests of prepared hitboxes may run in parallel, as
+     * long as {@link #isTestedWithoutArea(CollidingGameObject)} holds for them.
+     *
+     * @param other The other game object.
+     * @return <code>true</code> if the prepared hitboxes overlap
+     */
+    public final boolean testCollisionWith(CollidingGameObject other) {
+        if (!interactsWith(other) || getAltitudeLevel() != other.getAltitudeLevel()) {
             return false;
         }
 
@@ -108,59 +180,285 @@ public abstract class CollidingGameObject extends GameObject {
         }
 
         // Case 2: one or both hitboxes are polygonal
+        // reject game objects whose bounding boxes do not overlap before touching any polygon
+        if (GameSettings.COUNT_BOUNDING_BOX_CHECKS) {
+            boundingBoxChecks++;
+        }
+        if (!hitBoxBounds.intersects(other.hitBoxBounds)) {
+            if (GameSettings.COUNT_BOUNDING_BOX_CHECKS) {
+                boundingBoxRejections++;
+            }
+            return false;
+        }
+
+        // a compound hitbox is tested against a rectangle in one step instead of polygon by polygon
+        if (bandHitbox != null && other.hitBoxRectangle != null) {
+            return bandHitboxOverlaps(other.hitBoxRectangle);
+        }
+        if (other.bandHitbox != null && hitBoxRectangle != null) {
+            return other.bandHitboxOverlaps(hitBoxRectangle);
+        }
+
+        // all hitboxes created by calculateRelativeProjectedHitbox are convex, so the separating axis test is exact
+        if (hasConvexHitBox() && other.hasConvexHitBox()) {
+            return convexHitBoxesOverlap(other);
+        }
+
         // Polygon class has a predefined method for this (intersects(Rectangle2D r)), but it is not precise enough
-        // use more general Area-based intersection instead
-        // @OPTIMIZE only perform heavy multi-polygon check when the player is on the same level then wall
-        Area area1 = hitBoxRectangle != null ? hitboxToArea(hitBoxRectangle) : hitboxToArea(absoluteHitboxPolygons);
-        Area area2 = other.hitBoxRectangle != null ? hitboxToArea(other.hitBoxRectangle) : hitboxToArea(other.absoluteHitboxPolygons);
+        // use more general Area-based intersection for other polygons instead
+        Area area1 = hitBoxRectangle != null ? hitboxToArea(hitBoxRectangle) : polygonalHitboxToArea();
+        Area area2 = other.hitBoxRectangle != null ? hitboxToArea(other.hitBoxRectangle) : other.polygonalHitboxToArea();
         area1.intersect(area2);
 
         return !area1.isEmpty();
     }
 
+    /**
+     * Checks if {@link #testCollisionWith(CollidingGameObject)} decides for the other game object without the general
+     * {@link Area}-based test. That test is only needed if a polygonal hitbox is not convex, and it builds new shapes
+     * from the polygons, so it is kept out of parallel collision tests.
+     *
+     * @param other The other game object.
+     * @return <code>true</code> if no {@link Area} is needed
+     */
+    public final boolean isTestedWithoutArea(CollidingGameObject other) {
+        return (hasConvexHitBox() && other.hasConvexHitBox())
+                || (bandHitbox != null && other.hitBoxRectangle != null)
+                || (other.bandHitbox != null && hitBoxRectangle != null);
+    }
+
+    private boolean bandHitboxOverlaps(Rectangle rectangle) {
+        return bandHitbox.overlapsRectangle(rectangle.x - hitBoxTranslationX, rectangle.y - hitBoxTranslationY,
+                rectangle.width, rectangle.height);
+    }
+
+    private boolean hasConvexHitBox() {
+        return hitBoxRectangle != null || relativeHitboxPolygonsConvex;
+    }
+
+    private boolean convexHitBoxesOverlap(CollidingGameObject other) {
+        if (hitBoxRectangle != null) {
+            return other.polygonalHitBoxOverlaps(hitBoxRectangle);
+        }
+        if (other.hitBoxRectangle != null) {
+            return polygonalHitBoxOverlaps(other.hitBoxRectangle);
+        }
+
+        // the union of both polygon sets overlaps, if any pair of polygons overlaps
+        // the test works in the relative space of this game object
+        double offsetX = other.hitBoxTranslationX - hitBoxTranslationX;
+        double offsetY = other.hitBoxTranslationY - hitBoxTranslationY;
+        for (Polygon hitbox : relativeHitboxPolygons) {
+            for (Polygon otherHitbox : other.relativeHitboxPolygons) {
+                if (SeparatingAxisTest.convexPolygonsOverlap(
+                        hitbox.xpoints, hitbox.ypoints, hitbox.npoints,
+                        otherHitbox.xpoints, otherHitbox.ypoints, otherHitbox.npoints, offsetX, offsetY)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean polygonalHitBoxOverlaps(Rectangle rectangle) {
+        for (Polygon hitbox : relativeHitboxPolygons) {
+            if (SeparatingAxisTest.convexPolygonOverlapsRectangle(hitbox.xpoints, hitbox.ypoints, hitbox.npoints,
+                    rectangle.x - hitBoxTranslationX, rectangle.y - hitBoxTranslationY,
+                    rectangle.width, rectangle.height)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Area hitboxToArea(Rectangle hitbox) {
         return new Area(hitbox);
     }
 
-    private Area hitboxToArea(Polygon[] hitboxes) {
+    private Area polygonalHitboxToArea() {
         Area combinedArea = new Area();
-        for (Polygon hitbox: hitboxes) {
+        for (Polygon hitbox: relativeHitboxPolygons) {
             combinedArea.add(new Area(hitbox));
         }
+        combinedArea.transform(AffineTransform.getTranslateInstance(hitBoxTranslationX, hitBoxTranslationY));
         return combinedArea;
     }
 
+    /**
+     * Calculates where a ray first enters the hitbox of this game object. The ray reaches
+     * {@code (originX + t * directionX, originY + t * directionY)} for every {@code t} between 0 and
+     * {@code maxParameter}. Rays that miss the bounding box are rejected before any polygon is touched.
+     *
+     * @param originX      x-coordinate of the start of the ray
+     * @param originY      y-coordinate of the start of the ray
+     * @param directionX   x-component of the direction of the ray
+     * @param directionY   y-component of the direction of the ray
+     * @param maxParameter the largest {@code t} that belongs to the ray
+     * @return the smallest {@code t} at which the ray is inside the hitbox,
+     *         or {@link Double#POSITIVE_INFINITY} if it misses the hitbox
+     */
+    public final double calculateRayEntry(double originX, double originY, double directionX, double directionY,
+                                          double maxParameter) {
+        updateHitBox();
+        if (hitBoxBounds.isEmpty()) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double entry = GeometricUtils.calculateRayEntry(originX, originY, directionX, directionY, maxParameter,
+                hitBoxBounds.x, hitBoxBounds.y, hitBoxBounds.width, hitBoxBounds.height);
+        if (hitBoxRectangle != null || entry == Double.POSITIVE_INFINITY) {
+            // a rectangular hitbox is its own bounding box
+            return entry;
+        }
+
+        double polygonEntry = Double.POSITIVE_INFINITY;
+        for (Polygon hitbox : relativeHitboxPolygons) {
+            polygonEntry = Math.min(polygonEntry, GeometricUtils.calculateRayEntry(hitbox,
+                    originX - hitBoxTranslationX, originY - hitBoxTranslationY, directionX, directionY, maxParameter));
+        }
+        return polygonEntry;
+    }
+
+    /**
+     * Updates the hitbox and returns its axis-aligned bounding box on the screen.
+     * The returned rectangle is reused by every call, so it must neither be modified nor kept.
+     *
+     * @return the bounds of the current hitbox
+     */
+    public final Rectangle calculateHitBoxBounds() {
+        updateHitBox();
+        return hitBoxBounds;
+    }
+
+    /**
+     * Returns how many pairs with at least one polygonal hitbox were checked against each others bounding box since
+     * the last reset. Only counted if {@link GameSettings#COUNT_BOUNDING_BOX_CHECKS} is set.
+     *
+     * @return the number of bounding box checks
+     */
+    public static int getBoundingBoxChecks() {
+        return boundingBoxChecks;
+    }
+
+    /**
+     * Returns how many pairs with at least one polygonal hitbox were rejected by their bounding boxes since the last
+     * reset, so that no polygon had to be touched. Only counted if {@link GameSettings#COUNT_BOUNDING_BOX_CHECKS} is
+     * set.
+     *
+     * @return the number of bounding box rejections
+     */
+    public static int getBoundingBoxRejections() {
+        return boundingBoxRejections;
+    }
+
+    /**
+     * Resets the bounding box counters to zero.
+     */
+    public static void resetBoundingBoxStatistics() {
+        boundingBoxChecks = 0;
+        boundingBoxRejections = 0;
+    }
+
+    /**
+     * Returns where this game object was in the order in which a broadphase sorted it the last time. A broadphase
+     * that uses it has to check that it belongs to its own order, since a game object can change its altitude level.
+     *
+     * @return the index in the sorted order, or -1 if it has never been sorted
+     */
+    public final int getSortedIndex() {
+        return sortedIndex;
+    }
+
+    /**
+     * Remembers where this game object is in the order in which a broadphase sorted it.
+     *
+     * @param sortedIndex the index in the sorted order
+     */
+    public final void setSortedIndex(int sortedIndex) {
+        this.sortedIndex = sortedIndex;
+    }
+
+    /**
+     * Opens a new hitbox frame. Until {@link #closeHitBoxFrame()} is called, game objects are assumed not to move,
+     * so every hitbox is updated at most once per frame. This should enclose the collision detection of one tick.
+     * Once a hitbox has been updated in the open frame, collision tests only read it and may run in parallel.
+     */
+    public static void openHitBoxFrame() {
+        currentHitBoxFrame++;
+        hitBoxFrameOpen = true;
+    }
+
+    /**
+     * Closes the current hitbox frame. Afterwards hitboxes are updated on every access again, as long as the position
+     * of the game object has changed.
+     */
+    public static void closeHitBoxFrame() {
+        hitBoxFrameOpen = false;
+    }
+
     private void updateHitBox() {
+        if (hitBoxFrameOpen && hitBoxFrame == currentHitBoxFrame) {
+            return;
+        }
+        hitBoxFrame = currentHitBoxFrame;
+
         if (hitBoxRectangle != null) {
             // update rectangular hitbox
             hitBoxRectangle.x = (int) (position.getX() + hitBoxOffsetX);
             hitBoxRectangle.y = (int) (position.getY() + hitBoxOffsetY);
             hitBoxRectangle.width = (int) (width*size + hitBoxOffsetWidth);
             hitBoxRectangle.height = (int) (height*size + hitBoxOffsetHeight);
+            hitBoxBounds.setBounds(hitBoxRectangle);
 
         } else {
-            // @OPTIMIZE move absolute hitbox simlar to Position - one step in direction of targetPosition
-            // update polygonal hitbox
-            absoluteHitboxPolygons = new Polygon[relativeHitboxPolygons.length];
-
-            for (int polyIdx = 0; polyIdx < relativeHitboxPolygons.length; polyIdx++) {
-
-                Polygon absoluteHitbox = offsetToAbsoluteHitbox(relativeHitboxPolygons[polyIdx]);
-                absoluteHitboxPolygons[polyIdx] = absoluteHitbox;
+            // update polygonal hitbox: only the translation changes, the polygons stay relative
+            hitBoxTranslationX = position.getX() + hitBoxOffsetX;
+            hitBoxTranslationY = position.getY() + hitBoxOffsetY;
+
+            if (relativeHitBoxBounds.isEmpty()) {
+                hitBoxBounds.setBounds(0, 0, 0, 0);
+            } else {
+                int minX = (int) Math.floor(hitBoxTranslationX + relativeHitBoxBounds.x);
+                int minY = (int) Math.floor(hitBoxTranslationY + relativeHitBoxBounds.y);
+                int maxX = (int) Math.ceil(hitBoxTranslationX + (relativeHitBoxBounds.x + relativeHitBoxBounds.width));
+                int maxY = (int) Math.ceil(hitBoxTranslationY + (relativeHitBoxBounds.y + relativeHitBoxBounds.height));
+                hitBoxBounds.setBounds(minX, minY, maxX - minX, maxY - minY);
             }
         }
     }
 
-    private Polygon offsetToAbsoluteHitbox(Polygon relativeHitbox) {
-        Polygon absoluteHitbox = new Polygon();
+    private void updateRelativeHitBoxBounds() {
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+
+        for (Polygon hitbox : relativeHitboxPolygons) {
+            // Polygon caches its bounds on first use, create them now so that collision tests only read the polygon
+            hitbox.getBounds();
+            for (int cornerIdx = 0; cornerIdx < hitbox.npoints; cornerIdx++) {
+                minX = Math.min(minX, hitbox.xpoints[cornerIdx]);
+                minY = Math.min(minY, hitbox.ypoints[cornerIdx]);
+                maxX = Math.max(maxX, hitbox.xpoints[cornerIdx]);
+                maxY = Math.max(maxY, hitbox.ypoints[cornerIdx]);
+            }
+        }
+
+        if (minX > maxX) {
+            // no polygons: empty bounds never overlap anything
+            relativeHitBoxBounds.setBounds(0, 0, 0, 0);
+        } else {
+            relativeHitBoxBounds.setBounds(minX, minY, maxX - minX, maxY - minY);
+        }
+    }
 
-        for (int cornerIdx = 0; cornerIdx < relativeHitbox.npoints; cornerIdx++) {
-            absoluteHitbox.addPoint(
-                    (int) (getPosition().getX() + hitBoxOffsetX + relativeHitbox.xpoints[cornerIdx]),
-                    (int) (getPosition().getY() + hitBoxOffsetY + relativeHitbox.ypoints[cornerIdx])
-            );
+    private boolean calculateConvexity() {
+        for (Polygon hitbox : relativeHitboxPolygons) {
+            if (!SeparatingAxisTest.isConvex(hitbox.xpoints, hitbox.ypoints, hitbox.npoints)) {
+                return false;
+            }
         }
-        return absoluteHitbox;
+        return true;
     }
 
     /**
@@ -176,11 +474,23 @@ public abstract class CollidingGameObject extends GameObject {
         this.hitBoxOffsetY = offsetY;
         this.hitBoxOffsetWidth = offsetWidth;
         this.hitBoxOffsetHeight = offsetHeight;
+        invalidateHitBox();
+    }
+
+    @Override
+    protected void resetForReuse() {
+        super.resetForReuse();
+        invalidateHitBox();
+    }
+
+    private void invalidateHitBox() {
+        hitBoxFrame = -1;
     }
 
     /**
      * If a game object is collided with another game object, it reacts to the collision. This method needs to be
-     * overridden by game objects and implemented with appropriate reactions.
+     * overridden by game objects and implemented with appropriate reactions. It is only called for game objects
+     * whose {@link CollisionCategory} this game object reacts to.
      *
      * @param other The other game object that is involved in the collision.
      */
@@ -195,16 +505,18 @@ public abstract class CollidingGameObject extends GameObject {
                 gameView.addRectangleToCanvas(hitBoxRectangle.x, hitBoxRectangle.y, hitBoxRectangle.width, hitBoxRectangle.height, 2, false, Color.RED);
             }
         } else {
-            for (Polygon hitbox : absoluteHitboxPolygons) {
-                gameView.addPolygonToCanvas(castToDoubleArray(hitbox.xpoints), castToDoubleArray(hitbox.ypoints), 2, false, Color.RED);
+            updateHitBox();
+            for (Polygon hitbox : relativeHitboxPolygons) {
+                gameView.addPolygonToCanvas(translateToDoubleArray(hitbox.xpoints, hitbox.npoints, hitBoxTranslationX),
+                        translateToDoubleArray(hitbox.ypoints, hitbox.npoints, hitBoxTranslationY), 2, false, Color.RED);
             }
         }
     }
 
-    private double[] castToDoubleArray(int[] intArr) {
-        double[] doubleArr = new double[intArr.length];
-        for (int i = 0; i < intArr.length; i++) {
-            doubleArr[i] = intArr[i];
+    private double[] translateToDoubleArray(int[] intArr, int length, double translation) {
+        double[] doubleArr = new double[length];
+        for (int i = 0; i < length; i++) {
+            doubleArr[i] = intArr[i] + translation;
         }
         return doubleArr;
     }
@@ -264,64 +576,18 @@ public abstract class CollidingGameObject extends GameObject {
      */
     public void setRelativeHitboxPolygons(Polygon[] relativeHitboxPolygons) {
         this.relativeHitboxPolygons = relativeHitboxPolygons;
+        relativeHitboxPolygonsConvex = calculateConvexity();
+        updateRelativeHitBoxBounds();
+        invalidateHitBox();
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (o == this) {
-            return true;
-        }
-        if (o == null || getClass() != o.getClass()) {
-            return false;
-        }
-        if (!super.equals(o)) {
-            return false;
-        }
-
-        CollidingGameObject other = (CollidingGameObject) o;
-
-        return
-                hitBoxRectangle == null ? other.hitBoxRectangle == null : hitBoxRectangle.equals(other.hitBoxRectangle)
-                && comparePolygonArray(relativeHitboxPolygons, other.relativeHitboxPolygons)
-                && comparePolygonArray(absoluteHitboxPolygons, other.absoluteHitboxPolygons)
-                && Double.compare(hitBoxOffsetX, other.hitBoxOffsetX) == 0
-                && Double.compare(hitBoxOffsetY, other.hitBoxOffsetY) == 0
-                && Double.compare(hitBoxOffsetWidth, other.hitBoxOffsetWidth) == 0
-                && Double.compare(hitBoxOffsetHeight, other.hitBoxOffsetHeight) == 0
-                && altitudeLevel == other.altitudeLevel;
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(
-                super.hashCode(),
-                hitBoxRectangle,
-                Arrays.hashCode(relativeHitboxPolygons),
-                Arrays.hashCode(absoluteHitboxPolygons),
-                hitBoxOffsetX,
-                hitBoxOffsetY,
-                hitBoxOffsetWidth,
-                hitBoxOffsetHeight,
-                altitudeLevel
-        );
-    }
-
-    private boolean comparePolygonArray(Polygon[] arr1, Polygon[] arr2) {
-        if (arr1 == null && arr2 == null) {
-            return true;
-        } else if (arr1 == null || arr2 == null) {
-            return false;
-        }
-
-        if (arr1.length != arr2.length) {
-            return false;
-        }
-        for (int i = 0; i < arr1.length; i++) {
-            if (!arr1[i].equals(arr2[i])) {
-                return false;
-            }
-        }
-
-        return true;
+    /**
+     * Sets a compound hitbox that describes the same area as the relative hitbox polygons. Tests against rectangular
+     * hitboxes then use it instead of the polygons.
+     *
+     * @param bandHitbox the compound hitbox, relative to the position like the polygons
+     */
+    protected void setBandHitbox(BandHitbox bandHitbox) {
+        this.bandHitbox = bandHitbox;
     }
-}
\ No newline at end of file
+}
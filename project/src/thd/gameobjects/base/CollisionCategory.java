@@ -0,0 +1,87 @@
+package thd.gameobjects.base;
+
+/**
+ * Every {@link CollidingGameObject} belongs to exactly one {@code CollisionCategory}.
+ * The categories are used as bitmasks: the reaction table below defines which categories a category reacts to,
+ * and a pair of game objects only has to be checked for a collision if at least one of them reacts to the other.
+ * This way pairs like enemy vs. enemy or wall vs. wall are rejected with a single AND before any hitbox is touched.
+ */
+public enum CollisionCategory {
+    /** The {@link thd.gameobjects.movable.ZaxxonFighter}. */
+    PLAYER,
+    /** The {@link thd.gameobjects.movable.ZaxxonFighterLaserShot}. */
+    PLAYER_SHOT,
+    /** Stationary enemies that can be shot, e.g. {@link thd.gameobjects.movable.FuelTank}. */
+    GROUND_TARGET,
+    /** The {@link thd.gameobjects.movable.VerticalRocket}. */
+    ROCKET,
+    /** A {@link thd.gameobjects.movable.WallRow}. */
+    WALL,
+    /** The {@link thd.gameobjects.movable.EnergyBarrier}. */
+    ENERGY_BARRIER,
+    /** Shots of a {@link thd.gameobjects.movable.GunEmplacement}. */
+    ENEMY_SHOT;
+
+    private static final int[] REACTION_MATRIX = new int[values().length];
+    private static final int[] INTERACTION_MATRIX = new int[values().length];
+
+    static {
+        reactions(PLAYER, GROUND_TARGET, ROCKET, WALL, ENERGY_BARRIER, ENEMY_SHOT);
+        reactions(PLAYER_SHOT, GROUND_TARGET, WALL, ENERGY_BARRIER);
+        reactions(GROUND_TARGET, PLAYER_SHOT);
+        reactions(ROCKET, PLAYER_SHOT, PLAYER);
+        reactions(ENEMY_SHOT, values());
+
+        // two categories interact, if at least one of them reacts to the other
+        for (CollisionCategory category : values()) {
+            for (CollisionCategory other : values()) {
+                if (category.reactsTo(other) || other.reactsTo(category)) {
+                    INTERACTION_MATRIX[category.ordinal()] |= other.bit();
+                }
+            }
+        }
+    }
+
+    private static void reactions(CollisionCategory category, CollisionCategory... reactsTo) {
+        for (CollisionCategory other : reactsTo) {
+            REACTION_MATRIX[category.ordinal()] |= other.bit();
+        }
+    }
+
+    /**
+     * Returns the bit that represents this category in a bitmask.
+     *
+     * @return the bit of this category
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Returns the bitmask of all categories that this category reacts to.
+     *
+     * @return the reaction bitmask
+     */
+    public int reactionMask() {
+        return REACTION_MATRIX[ordinal()];
+    }
+
+    /**
+     * Returns the bitmask of all categories that this category has to be checked against for collisions.
+     *
+     * @return the interaction bitmask
+     */
+    public int interactionMask() {
+        return INTERACTION_MATRIX[ordinal()];
+    }
+
+    /**
+     * Checks if game objects of this category react to a collision with the other category.
+     *
+     * @param other the other category
+     * @return true if this category reacts to the other category
+     */
+    public boolean reactsTo(CollisionCategory other) {
+        return (REACTION_MATRIX[ordinal()] & other.bit()) != 0;
+    }
+}
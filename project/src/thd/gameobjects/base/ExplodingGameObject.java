@@ -19,11 +19,12 @@ public abstract class ExplodingGameObject extends CollidingGameObject {
      * @param gamePlayManager       Controls the game play.
      * @param altitudeLevel         the altitude of the GameObject
      * @param isRectangular         if true: use rectangular hitbox, else use polygonal
+     * @param collisionCategory     the {@link CollisionCategory} of the GameObject
      * @param spawnDelayInMilis            measure for how long before GameObject enters the Screen
      * @param spawnLineInter        interpolation factor: where on the SpawnLine to spawn the object
      */
-    public ExplodingGameObject(GameView gameView, GamePlayManager gamePlayManager, int altitudeLevel, boolean isRectangular, int spawnDelayInMilis, double spawnLineInter) {
-        super(gameView, gamePlayManager, altitudeLevel, isRectangular, spawnDelayInMilis, spawnLineInter);
+    public ExplodingGameObject(GameView gameView, GamePlayManager gamePlayManager, int altitudeLevel, boolean isRectangular, CollisionCategory collisionCategory, int spawnDelayInMilis, double spawnLineInter) {
+        super(gameView, gamePlayManager, altitudeLevel, isRectangular, collisionCategory, spawnDelayInMilis, spawnLineInter);
     }
 
     /**
@@ -33,9 +34,10 @@ public abstract class ExplodingGameObject extends CollidingGameObject {
      * @param gamePlayManager Controls the game play.
      * @param altitudeLevel   the altitude of the GameObject
      * @param isRectangular   if true: use rectangular hitbox, else use polygonal
+     * @param collisionCategory the {@link CollisionCategory} of the GameObject
      */
-    public ExplodingGameObject(GameView gameView, GamePlayManager gamePlayManager, int altitudeLevel, boolean isRectangular) {
-        super(gameView, gamePlayManager, altitudeLevel, isRectangular);
+    public ExplodingGameObject(GameView gameView, GamePlayManager gamePlayManager, int altitudeLevel, boolean isRectangular, CollisionCategory collisionCategory) {
+        super(gameView, gamePlayManager, altitudeLevel, isRectangular, collisionCategory);
     }
 
     protected enum ExplosionState {
@@ -71,6 +73,11 @@ public abstract class ExplodingGameObject extends CollidingGameObject {
 
         if (hasDespawned && !position.similarTo(targetPosition)) {
             if (currentExplosionState == null) {
+                // the explosion is cosmetic, it is skipped if there is no room left for it
+                if (!gamePlayManager.admits(SpawnPriority.COSMETIC)) {
+                    gamePlayManager.destroyGameObject(this);
+                    return;
+                }
                 gameView.playSound("explosion.wav", false);
             }
 
@@ -101,6 +108,17 @@ public abstract class ExplodingGameObject extends CollidingGameObject {
         }
     }
 
+    @Override
+    protected void resetForReuse() {
+        super.resetForReuse();
+
+        // the explosion may have been interrupted, e.g. when the level was left
+        if (currentExplosionState != null) {
+            currentExplosionState = null;
+            gameView.resetTimers(this);
+        }
+    }
+
     private void switchToNextState() {
         if (currentExplosionState == null) {
             currentExplosionState = ExplosionState.values()[0];
@@ -4,7 +4,6 @@ import thd.game.managers.GamePlayManager;
 import thd.game.managers.GameSettings;
 import thd.game.utilities.GameView;
 
-import java.util.Objects;
 import thd.game.utilities.TravelPathCalculator;
 
 /**
@@ -39,8 +38,9 @@ public abstract class GameObject {
         this.gameView = gameView;
         this.gamePlayManager = gamePlayManager;
 
-        position = new Position();
-        targetPosition = new Position();
+        // views onto a PositionStore while the GameObject is shifted
+        position = new StoredPosition(false);
+        targetPosition = new StoredPosition(true);
         size = 1;
         hasDespawned = false;
     }
@@ -89,17 +89,6 @@ public abstract class GameObject {
         return position;
     }
 
-    /**
-     * Moves Shiftable Game Objects diagonally over the screen.
-     *
-     * @param pixels how far
-     */
-    public void moveShiftableForward(double pixels) {
-        if (this instanceof ShiftableGameObject) {
-            position.moveToPosition(targetPosition, pixels);
-        }
-    }
-
     /**
      * Sets the status of the {@code GameObject}.
      */
@@ -152,6 +141,15 @@ public abstract class GameObject {
                 position.getY() - getHeight() / 2);
     }
 
+    /**
+     * Returns how many milliseconds after the start of the game this {@code GameObject} enters the screen.
+     *
+     * @return the spawn delay in milliseconds
+     */
+    public int getSpawnDelayInMilis() {
+        return spawnDelayInMilis;
+    }
+
     /**
      * Returns the z-Index distance to the background.
      *
@@ -162,43 +160,46 @@ public abstract class GameObject {
     }
 
     /**
-     * String representation of this {@code GameObject}.
+     * Changes the z-Index distance to the background. Use this instead of the field as soon as the GameObject may
+     * have been spawned, so that it is moved to its new place in the drawing order.
      *
-     * @return String representation
-     * @see Position#toString()
+     * @param distanceToBackground new z-Index to background
      */
-    @Override
-    public String toString() {
-        return getClass().getSimpleName() + ": " + position;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (o == this) {
-            return true;
+    protected void setDistanceToBackground(char distanceToBackground) {
+        if (this.distanceToBackground != distanceToBackground) {
+            this.distanceToBackground = distanceToBackground;
+            gamePlayManager.changeDistanceToBackground(this);
         }
+    }
 
-        if (o == null || getClass() != o.getClass()) {
-            return false;
-        }
+    /**
+     * Returns what happens to this {@code GameObject} when the budget of GameObjects is used up.
+     * GameObjects are {@link SpawnPriority#ESSENTIAL} unless they override this method.
+     *
+     * @return the spawn priority
+     */
+    public SpawnPriority getSpawnPriority() {
+        return SpawnPriority.ESSENTIAL;
+    }
 
-        GameObject other = (GameObject) o;
-
-        return position.equals(other.position)
-                && targetPosition.equals(other.targetPosition)
-                && Double.compare(speedInPixel, other.speedInPixel) == 0
-                && Double.compare(rotation, other.rotation) == 0
-                && Double.compare(size, other.size) == 0
-                && Double.compare(width, other.width) == 0
-                && Double.compare(height, other.height) == 0
-                && Double.compare(spawnLineInter, other.spawnLineInter) == 0
-                && hasDespawned == other.hasDespawned
-                && distanceToBackground == other.distanceToBackground;
+    /**
+     * Resets the state that a {@code GameObject} collects while it is in the game, so that it can be spawned again.
+     * Subclasses that collect further state have to override this method and call it.
+     *
+     * @see PoolableGameObject
+     */
+    protected void resetForReuse() {
+        hasDespawned = false;
     }
 
+    /**
+     * String representation of this {@code GameObject}.
+     *
+     * @return String representation
+     * @see Position#toString()
+     */
     @Override
-    public int hashCode() {
-        return Objects.hash(position, targetPosition, speedInPixel, rotation, size, width, height, spawnLineInter,
-                hasDespawned, distanceToBackground);
+    public String toString() {
+        return getClass().getSimpleName() + ": " + position;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package thd.gameobjects.base;
+
+import java.util.ArrayList;
+
+/**
+ * A {@link BandHitbox} whose parts cover arbitrary intervals {@code [start, end]} in x-direction.
+ * The intervals are kept sorted, so a test against a point or a rectangle only needs a binary search instead of
+ * uniting all parts.
+ */
+public final class IntervalHitbox extends BandHitbox {
+    private final double[] starts;
+    private final double[] ends;
+
+    /**
+     * Creates a new {@code IntervalHitbox}.
+     *
+     * @param intervals the intervals {@code {start, end}} in x-direction, they may be unsorted and overlap
+     * @param slope     the slope of the band that all parts lie in
+     * @param thickness the vertical thickness of the band
+     */
+    public IntervalHitbox(ArrayList<double[]> intervals, double slope, double thickness) {
+        super(slope, thickness);
+
+        ArrayList<double[]> sortedIntervals = new ArrayList<>(intervals);
+        sortedIntervals.sort((a, b) -> Double.compare(a[0], b[0]));
+
+        // merge overlapping intervals, so that starts and ends are both sorted
+        ArrayList<double[]> mergedIntervals = new ArrayList<>();
+        for (double[] interval : sortedIntervals) {
+            if (interval[1] <= interval[0]) {
+                continue;
+            }
+            double[] last = mergedIntervals.isEmpty() ? null : mergedIntervals.get(mergedIntervals.size() - 1);
+            if (last != null && interval[0] <= last[1]) {
+                last[1] = Math.max(last[1], interval[1]);
+            } else {
+                mergedIntervals.add(new double[]{interval[0], interval[1]});
+            }
+        }
+
+        starts = new double[mergedIntervals.size()];
+        ends = new double[mergedIntervals.size()];
+        for (int i = 0; i < mergedIntervals.size(); i++) {
+            starts[i] = mergedIntervals.get(i)[0];
+            ends[i] = mergedIntervals.get(i)[1];
+        }
+    }
+
+    @Override
+    protected boolean isOccupied(double x) {
+        int intervalIdx = findFirstIntervalEndingAfter(x);
+        return intervalIdx < starts.length && starts[intervalIdx] <= x;
+    }
+
+    @Override
+    protected boolean isAnyOccupied(double low, double high) {
+        int intervalIdx = findFirstIntervalEndingAfter(low);
+        return intervalIdx < starts.length && starts[intervalIdx] < high;
+    }
+
+    // binary search over the sorted ends, returns the number of intervals if there is none
+    private int findFirstIntervalEndingAfter(double x) {
+        int low = 0;
+        int high = ends.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (ends[middle] <= x) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
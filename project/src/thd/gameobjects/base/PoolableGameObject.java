@@ -0,0 +1,11 @@
+package thd.gameobjects.base;
+
+/**
+ * This refers to short-lived GameObjects that are reused instead of being created again and again.
+ * After they have been removed from the game, they are kept by the GamePlayManager until they are reinitialized and
+ * spawned again. They must therefore not be referenced after they have been destroyed, and their reinitialization has
+ * to call {@link GameObject#resetForReuse()}.
+ */
+public interface PoolableGameObject {
+
+}
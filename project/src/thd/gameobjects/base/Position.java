@@ -8,6 +8,8 @@ import java.util.Objects;
  * This class is a Wrapper for X- & Y-Coordinate with various utility methods.
  * It can be used for every GameObject.
  * For Position to be visible, keep inside Dimensions of {@link GameView}.
+ * All methods go through {@link #getX()}, {@link #getY()} and {@link #updateCoordinates(double, double)}, so that
+ * subclasses can keep the coordinates somewhere else, see {@link PositionStore}.
  *
  * @see GameView
  */
@@ -50,7 +52,7 @@ public class Position implements Comparable<Position> {
      * @return euclidean distance
      */
     public double distance(Position other) {
-        return Math.sqrt(Math.pow((other.getX() - x), 2) + Math.pow((other.getY() - y), 2));
+        return Math.sqrt(Math.pow((other.getX() - getX()), 2) + Math.pow((other.getY() - getY()), 2));
     }
 
     /**
@@ -64,8 +66,8 @@ public class Position implements Comparable<Position> {
         if (distance <= speedInPixel) {
             updateCoordinates(other);
         } else {
-            right((other.x - x) / distance * speedInPixel);
-            down((other.y - y) / distance * speedInPixel);
+            right((other.getX() - getX()) / distance * speedInPixel);
+            down((other.getY() - getY()) / distance * speedInPixel);
         }
     }
 
@@ -76,8 +78,8 @@ public class Position implements Comparable<Position> {
      * @return True if this position has the same x- and y-coordinates as the other position, when both are rounded to <code>int</code>.
      */
     public boolean similarTo(Position other) {
-        return Math.round(x) == Math.round(other.x)
-                && Math.round(y) == Math.round(other.y);
+        return Math.round(getX()) == Math.round(other.getX())
+                && Math.round(getY()) == Math.round(other.getY());
     }
 
     /**
@@ -104,8 +106,7 @@ public class Position implements Comparable<Position> {
      * @param other Another position.
      */
     public void updateCoordinates(Position other) {
-        x = other.getX();
-        y = other.getY();
+        updateCoordinates(other.getX(), other.getY());
     }
 
     /**
@@ -123,7 +124,7 @@ public class Position implements Comparable<Position> {
      * One pixel to the right.
      */
     public void right() {
-        x++;
+        right(1);
     }
 
     /**
@@ -132,14 +133,14 @@ public class Position implements Comparable<Position> {
      * @param pixel Number of pixels.
      */
     public void right(double pixel) {
-        x += pixel;
+        updateCoordinates(getX() + pixel, getY());
     }
 
     /**
      * One pixel to the left.
      */
     public void left() {
-        x--;
+        left(1);
     }
 
     /**
@@ -148,14 +149,14 @@ public class Position implements Comparable<Position> {
      * @param pixel Number of pixels.
      */
     public void left(double pixel) {
-        x -= pixel;
+        updateCoordinates(getX() - pixel, getY());
     }
 
     /**
      * One pixel upwards.
      */
     public void up() {
-        y--;
+        up(1);
     }
 
     /**
@@ -164,14 +165,14 @@ public class Position implements Comparable<Position> {
      * @param pixel Number of pixels.
      */
     public void up(double pixel) {
-        y -= pixel;
+        updateCoordinates(getX(), getY() - pixel);
     }
 
     /**
      * One pixel downwards.
      */
     public void down() {
-        y++;
+        down(1);
     }
 
     /**
@@ -180,12 +181,12 @@ public class Position implements Comparable<Position> {
      * @param pixel Number of pixels.
      */
     public void down(double pixel) {
-        y += pixel;
+        updateCoordinates(getX(), getY() + pixel);
     }
 
     @Override
     public String toString() {
-        return "Position (" + (int) Math.round(x) + ", " + (int) Math.round(y) + ")";
+        return "Position (" + (int) Math.round(getX()) + ", " + (int) Math.round(getY()) + ")";
     }
 
     @Override
@@ -194,17 +195,21 @@ public class Position implements Comparable<Position> {
             return true;
         }
 
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof Position other) || comparedClass() != other.comparedClass()) {
             return false;
         }
 
-        Position other = (Position) o;
-        return Double.compare(x, other.x) == 0 && Double.compare(y, other.y) == 0;
+        return Double.compare(getX(), other.getX()) == 0 && Double.compare(getY(), other.getY()) == 0;
+    }
+
+    // where the coordinates are kept does not matter for equality
+    private Class<?> comparedClass() {
+        return this instanceof StoredPosition ? Position.class : getClass();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        return Objects.hash(getX(), getY());
     }
 
     @Override
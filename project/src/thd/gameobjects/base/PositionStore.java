@@ -0,0 +1,347 @@
+package thd.gameobjects.base;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the positions and target positions of the shiftable GameObjects in primitive arrays, so that the whole game
+ * world is shifted in one tight loop instead of one {@link Position#moveToPosition(Position, double)} per GameObject.
+ * The position and target position of an attached {@link GameObject} are views onto its slot.
+ *
+ * <p>The store can also compute the positions in closed form from the game clock, see
+ * {@link #moveTo(double, double)}. For this, every slot of a store that is moved in time remembers where and when its
+ * current straight movement towards the target position began. Whenever a position or target position is changed from
+ * outside, a new movement begins there. A store that is shifted does none of this bookkeeping.</p>
+ *
+ * <p>A store that is scrolled by an offset does not move any position at all. Scrolling only advances one offset,
+ * see {@link #scroll(double)}, and a position is computed from the offset whenever it is read, e.g. for drawing or
+ * for collisions. The position of a GameObject therefore stays the same as with {@link #shift(double)}.</p>
+ *
+ * <p>The slots are packed: when a GameObject is detached, the last slot is moved into its place.</p>
+ */
+public final class PositionStore {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private double[] x;
+    private double[] y;
+    private double[] targetX;
+    private double[] targetY;
+    // 1 if the GameObject in the slot is shifted, 0 if it is not activated yet
+    private double[] shiftFactor;
+    // only needed if the store is moved in time or scrolled by an offset
+    private double[] originX;
+    private double[] originY;
+    private double[] originTimeInMilliseconds;
+    // only needed if the store is scrolled by an offset
+    private double[] originScrollOffset;
+    private double[] directionX;
+    private double[] directionY;
+    private double[] pathLength;
+    private GameObject[] gameObjects;
+    private int size;
+    private double currentTimeInMilliseconds;
+    private final boolean isScrolledByOffset;
+    private final boolean isMovedInTime;
+    private double scrollOffset;
+
+    /**
+     * Creates a new, empty {@code PositionStore} that moves the positions when it is shifted.
+     */
+    public PositionStore() {
+        this(false, false);
+    }
+
+    /**
+     * Creates a new, empty {@code PositionStore}. Only a store that is moved in time or scrolled by an offset keeps
+     * track of where the current movement of each GameObject began, a store that is shifted does not need to.
+     *
+     * @param isScrolledByOffset true if the store is scrolled by an offset, see {@link #scroll(double)}, instead of
+     *                           moving the positions
+     * @param isMovedInTime      true if the positions are computed from the game time, see
+     *                           {@link #moveTo(double, double)}, ignored if the store is scrolled by an offset
+     */
+    public PositionStore(boolean isScrolledByOffset, boolean isMovedInTime) {
+        this.isScrolledByOffset = isScrolledByOffset;
+        this.isMovedInTime = isMovedInTime && !isScrolledByOffset;
+        x = new double[INITIAL_CAPACITY];
+        y = new double[INITIAL_CAPACITY];
+        targetX = new double[INITIAL_CAPACITY];
+        targetY = new double[INITIAL_CAPACITY];
+        shiftFactor = new double[INITIAL_CAPACITY];
+        originX = new double[INITIAL_CAPACITY];
+        originY = new double[INITIAL_CAPACITY];
+        originTimeInMilliseconds = new double[INITIAL_CAPACITY];
+        originScrollOffset = new double[INITIAL_CAPACITY];
+        directionX = new double[INITIAL_CAPACITY];
+        directionY = new double[INITIAL_CAPACITY];
+        pathLength = new double[INITIAL_CAPACITY];
+        gameObjects = new GameObject[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Moves the position and target position of a GameObject into this store. Nothing happens if the GameObject is
+     * attached already.
+     *
+     * @param gameObject the GameObject
+     * @param isShifted  true if the GameObject is shifted right away, see {@link #startShifting(GameObject)}
+     */
+    public void attach(GameObject gameObject, boolean isShifted) {
+        StoredPosition position = (StoredPosition) gameObject.position;
+        StoredPosition targetPosition = (StoredPosition) gameObject.targetPosition;
+        if (position.isAttached()) {
+            return;
+        }
+
+        if (size == x.length) {
+            grow();
+        }
+
+        int slot = size++;
+        x[slot] = position.getX();
+        y[slot] = position.getY();
+        targetX[slot] = targetPosition.getX();
+        targetY[slot] = targetPosition.getY();
+        shiftFactor[slot] = isShifted ? 1 : 0;
+        gameObjects[slot] = gameObject;
+        if (isScrolledByOffset || isMovedInTime) {
+            beginMovement(slot, currentTimeInMilliseconds);
+        }
+
+        position.attach(this, slot);
+        targetPosition.attach(this, slot);
+    }
+
+    /**
+     * Lets an attached GameObject be shifted from now on.
+     *
+     * @param gameObject the GameObject
+     */
+    public void startShifting(GameObject gameObject) {
+        startShifting(gameObject, currentTimeInMilliseconds);
+    }
+
+    /**
+     * Lets an attached GameObject be shifted, beginning at the given time. {@link #moveTo(double, double)} moves it
+     * as far as it would have come since then.
+     *
+     * @param gameObject              the GameObject
+     * @param startTimeInMilliseconds the game time at which the GameObject began to move
+     */
+    public void startShifting(GameObject gameObject, double startTimeInMilliseconds) {
+        StoredPosition position = (StoredPosition) gameObject.position;
+        if (!position.isAttached()) {
+            return;
+        }
+
+        int slot = position.getSlot();
+        if (isScrolledByOffset) {
+            updatePosition(slot);
+        }
+        shiftFactor[slot] = 1;
+        if (isScrolledByOffset || isMovedInTime) {
+            beginMovement(slot, startTimeInMilliseconds);
+        }
+    }
+
+    /**
+     * Moves the position and target position of a GameObject back into the GameObject. Nothing happens if the
+     * GameObject is not attached.
+     *
+     * @param gameObject the GameObject
+     */
+    public void detach(GameObject gameObject) {
+        StoredPosition position = (StoredPosition) gameObject.position;
+        StoredPosition targetPosition = (StoredPosition) gameObject.targetPosition;
+        if (!position.isAttached()) {
+            return;
+        }
+
+        int slot = position.getSlot();
+        position.detach();
+        targetPosition.detach();
+
+        // fill the gap with the last slot
+        int lastSlot = --size;
+        if (slot != lastSlot) {
+            x[slot] = x[lastSlot];
+            y[slot] = y[lastSlot];
+            targetX[slot] = targetX[lastSlot];
+            targetY[slot] = targetY[lastSlot];
+            shiftFactor[slot] = shiftFactor[lastSlot];
+            if (isScrolledByOffset || isMovedInTime) {
+                originX[slot] = originX[lastSlot];
+                originY[slot] = originY[lastSlot];
+                originTimeInMilliseconds[slot] = originTimeInMilliseconds[lastSlot];
+                originScrollOffset[slot] = originScrollOffset[lastSlot];
+                directionX[slot] = directionX[lastSlot];
+                directionY[slot] = directionY[lastSlot];
+                pathLength[slot] = pathLength[lastSlot];
+            }
+            gameObjects[slot] = gameObjects[lastSlot];
+            ((StoredPosition) gameObjects[slot].position).moveToSlot(slot);
+            ((StoredPosition) gameObjects[slot].targetPosition).moveToSlot(slot);
+        }
+        gameObjects[lastSlot] = null;
+    }
+
+    /**
+     * Detaches all GameObjects.
+     */
+    public void detachAll() {
+        while (size > 0) {
+            detach(gameObjects[size - 1]);
+        }
+    }
+
+    /**
+     * Moves every shifted GameObject towards its target position.
+     * This does the same as {@link Position#moveToPosition(Position, double)} for every slot, but in a single loop
+     * over primitive arrays, which the JIT can unroll and vectorize.
+     *
+     * @param pixels how far
+     * @throws IllegalStateException if the store is scrolled by an offset
+     */
+    public void shift(double pixels) {
+        if (isScrolledByOffset) {
+            throw new IllegalStateException("A PositionStore that is scrolled by an offset can not be shifted!");
+        }
+        for (int slot = 0; slot < size; slot++) {
+            double step = pixels * shiftFactor[slot];
+            double distanceX = targetX[slot] - x[slot];
+            double distanceY = targetY[slot] - y[slot];
+            double distance = Math.sqrt(distanceX * distanceX + distanceY * distanceY);
+
+            // a step of 0 leaves GameObjects that are not activated yet where they are
+            boolean arrives = distance <= step;
+            x[slot] = arrives ? targetX[slot] : x[slot] + distanceX / distance * step;
+            y[slot] = arrives ? targetY[slot] : y[slot] + distanceY / distance * step;
+        }
+    }
+
+    /**
+     * Puts every shifted GameObject where it is at the given game time, moving from the beginning of its current
+     * movement towards its target position at a constant speed. Unlike {@link #shift(double)}, the positions do not
+     * depend on how many frames there were, so there is no accumulated drift, and a GameObject reaches its target
+     * position exactly when the time for the distance is up.
+     *
+     * @param timeInMilliseconds   the current game time
+     * @param pixelsPerMillisecond how fast
+     * @throws IllegalStateException if the store is not moved in time
+     */
+    public void moveTo(double timeInMilliseconds, double pixelsPerMillisecond) {
+        if (!isMovedInTime) {
+            throw new IllegalStateException("Only a PositionStore that is moved in time can be moved in time!");
+        }
+        currentTimeInMilliseconds = timeInMilliseconds;
+        for (int slot = 0; slot < size; slot++) {
+            double elapsedTime = Math.max(0, timeInMilliseconds - originTimeInMilliseconds[slot]);
+            double travelledDistance = elapsedTime * pixelsPerMillisecond * shiftFactor[slot];
+            double distanceX = targetX[slot] - originX[slot];
+            double distanceY = targetY[slot] - originY[slot];
+            double distance = Math.sqrt(distanceX * distanceX + distanceY * distanceY);
+
+            // GameObjects that are not activated yet have not travelled and stay at their origin
+            boolean arrives = distance <= travelledDistance;
+            x[slot] = arrives ? targetX[slot] : originX[slot] + distanceX / distance * travelledDistance;
+            y[slot] = arrives ? targetY[slot] : originY[slot] + distanceY / distance * travelledDistance;
+        }
+    }
+
+    /**
+     * Scrolls every shifted GameObject towards its target position by advancing the scroll offset. This takes
+     * constant time, no matter how many GameObjects are attached.
+     *
+     * @param pixels how far
+     * @throws IllegalStateException if the store is not scrolled by an offset
+     */
+    public void scroll(double pixels) {
+        if (!isScrolledByOffset) {
+            throw new IllegalStateException("Only a PositionStore that is scrolled by an offset can be scrolled!");
+        }
+        scrollOffset += pixels;
+    }
+
+    double getX(int slot, boolean isTarget) {
+        if (isScrolledByOffset && !isTarget) {
+            return scrolledX(slot);
+        }
+        return isTarget ? targetX[slot] : x[slot];
+    }
+
+    double getY(int slot, boolean isTarget) {
+        if (isScrolledByOffset && !isTarget) {
+            return scrolledY(slot);
+        }
+        return isTarget ? targetY[slot] : y[slot];
+    }
+
+    void updateCoordinates(int slot, boolean isTarget, double newX, double newY) {
+        if (isScrolledByOffset) {
+            // the new movement begins where the GameObject is now
+            updatePosition(slot);
+        }
+        if (isTarget) {
+            targetX[slot] = newX;
+            targetY[slot] = newY;
+        } else {
+            x[slot] = newX;
+            y[slot] = newY;
+        }
+        if (isScrolledByOffset || isMovedInTime) {
+            beginMovement(slot, currentTimeInMilliseconds);
+        }
+    }
+
+    private double scrolledX(int slot) {
+        double scrolledDistance = scrolledDistance(slot);
+        return pathLength[slot] <= scrolledDistance ? targetX[slot] : originX[slot] + directionX[slot] * scrolledDistance;
+    }
+
+    private double scrolledY(int slot) {
+        double scrolledDistance = scrolledDistance(slot);
+        return pathLength[slot] <= scrolledDistance ? targetY[slot] : originY[slot] + directionY[slot] * scrolledDistance;
+    }
+
+    private double scrolledDistance(int slot) {
+        return (scrollOffset - originScrollOffset[slot]) * shiftFactor[slot];
+    }
+
+    // brings the position up to date with the scroll offset, before the current movement ends
+    private void updatePosition(int slot) {
+        x[slot] = scrolledX(slot);
+        y[slot] = scrolledY(slot);
+    }
+
+    // only called if the store is moved in time or scrolled by an offset
+    private void beginMovement(int slot, double startTimeInMilliseconds) {
+        originX[slot] = x[slot];
+        originY[slot] = y[slot];
+        if (isMovedInTime) {
+            originTimeInMilliseconds[slot] = startTimeInMilliseconds;
+            return;
+        }
+
+        originScrollOffset[slot] = scrollOffset;
+        double distanceX = targetX[slot] - x[slot];
+        double distanceY = targetY[slot] - y[slot];
+        pathLength[slot] = Math.sqrt(distanceX * distanceX + distanceY * distanceY);
+        directionX[slot] = pathLength[slot] == 0 ? 0 : distanceX / pathLength[slot];
+        directionY[slot] = pathLength[slot] == 0 ? 0 : distanceY / pathLength[slot];
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        targetX = Arrays.copyOf(targetX, capacity);
+        targetY = Arrays.copyOf(targetY, capacity);
+        shiftFactor = Arrays.copyOf(shiftFactor, capacity);
+        originX = Arrays.copyOf(originX, capacity);
+        originY = Arrays.copyOf(originY, capacity);
+        originTimeInMilliseconds = Arrays.copyOf(originTimeInMilliseconds, capacity);
+        originScrollOffset = Arrays.copyOf(originScrollOffset, capacity);
+        directionX = Arrays.copyOf(directionX, capacity);
+        directionY = Arrays.copyOf(directionY, capacity);
+        pathLength = Arrays.copyOf(pathLength, capacity);
+        gameObjects = Arrays.copyOf(gameObjects, capacity);
+    }
+}
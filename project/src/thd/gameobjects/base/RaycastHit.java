@@ -0,0 +1,39 @@
+package thd.gameobjects.base;
+
+/**
+ * The result of a raycast: the first {@link CollidingGameObject} that a ray enters and where it enters it.
+ * The ray reaches {@code origin + t * direction}, the entry is given as this parameter {@code t}.
+ */
+public final class RaycastHit {
+    private final CollidingGameObject gameObject;
+    private final double entryParameter;
+
+    /**
+     * Creates a new {@code RaycastHit}.
+     *
+     * @param gameObject     the game object that was hit first
+     * @param entryParameter the parameter {@code t} at which the ray enters its hitbox
+     */
+    public RaycastHit(CollidingGameObject gameObject, double entryParameter) {
+        this.gameObject = gameObject;
+        this.entryParameter = entryParameter;
+    }
+
+    /**
+     * Returns the game object that was hit first.
+     *
+     * @return the game object
+     */
+    public CollidingGameObject getGameObject() {
+        return gameObject;
+    }
+
+    /**
+     * Returns the parameter {@code t} at which the ray enters the hitbox of the game object.
+     *
+     * @return the entry parameter
+     */
+    public double getEntryParameter() {
+        return entryParameter;
+    }
+}
@@ -0,0 +1,16 @@
+package thd.gameobjects.base;
+
+/**
+ * Every {@link GameObject} has a {@code SpawnPriority}. It decides what happens to the GameObject when the budget of
+ * GameObjects is used up, see {@link thd.game.managers.GameSettings#MAXIMUM_NUMBER_OF_GAME_OBJECTS}.
+ */
+public enum SpawnPriority {
+    /** Needed for the game to work, e.g. the player, walls and displays. Always spawned, even over the budget. */
+    ESSENTIAL,
+    /** Stationary enemies. They are spawned as soon as there is room again, the world keeps shifting them meanwhile. */
+    DEFERRABLE,
+    /** Short-lived projectiles. They are not spawned at all if there is no room. */
+    REFUSABLE,
+    /** Cosmetic effects like explosions. They are refused first, before the budget is used up. */
+    COSMETIC
+}
@@ -0,0 +1,58 @@
+package thd.gameobjects.base;
+
+/**
+ * The position or target position of a {@link GameObject}. While the GameObject is attached to a
+ * {@link PositionStore}, this is only a view onto its slot in the store, otherwise it keeps the coordinates itself.
+ */
+final class StoredPosition extends Position {
+    private final boolean isTarget;
+    private PositionStore store;
+    private int slot;
+
+    StoredPosition(boolean isTarget) {
+        this.isTarget = isTarget;
+    }
+
+    void attach(PositionStore store, int slot) {
+        this.store = store;
+        this.slot = slot;
+    }
+
+    void moveToSlot(int slot) {
+        this.slot = slot;
+    }
+
+    void detach() {
+        double x = getX();
+        double y = getY();
+        store = null;
+        updateCoordinates(x, y);
+    }
+
+    boolean isAttached() {
+        return store != null;
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public double getX() {
+        return store == null ? super.getX() : store.getX(slot, isTarget);
+    }
+
+    @Override
+    public double getY() {
+        return store == null ? super.getY() : store.getY(slot, isTarget);
+    }
+
+    @Override
+    public void updateCoordinates(double x, double y) {
+        if (store == null) {
+            super.updateCoordinates(x, y);
+        } else {
+            store.updateCoordinates(slot, isTarget, x, y);
+        }
+    }
+}
@@ -28,7 +28,7 @@ public class EnemyShooter extends ExplodingGameObject implements ShiftableGameOb
      *                          the object
      */
     public EnemyShooter(GameView gameView, GamePlayManager gamePlayManager, int spawnDelayInMilis, double spawnLineInter) {
-        super(gameView, gamePlayManager, 0, true, spawnDelayInMilis, spawnLineInter);
+        super(gameView, gamePlayManager, 0, true, CollisionCategory.GROUND_TARGET, spawnDelayInMilis, spawnLineInter);
 
         height = 80;
         width = 127;
@@ -63,10 +63,15 @@ public class EnemyShooter extends ExplodingGameObject implements ShiftableGameOb
         return gameView.gameTimeInMilliseconds() > spawnDelayInMilis;
     }
 
+    @Override
+    public SpawnPriority getSpawnPriority() {
+        return SpawnPriority.DEFERRABLE;
+    }
+
     @Override
     public void reactToCollisionWith(CollidingGameObject other) {
         if (getAltitudeLevel() == other.getAltitudeLevel()) {
-            if (other instanceof ZaxxonFighterLaserShot) {
+            if (other.getCollisionCategory() == CollisionCategory.PLAYER_SHOT) {
                 hasDespawned = true;
 
                 gamePlayManager.addPoints(100 + 50 * (gamePlayManager.retrieveLevel().number + 1));
@@ -5,7 +5,6 @@ import thd.game.utilities.GameView;
 import thd.gameobjects.base.*;
 
 import java.awt.*;
-import java.util.ArrayList;
 
 import static thd.game.managers.GameSettings.MAX_PLAYER_ALTITUDE;
 import thd.game.utilities.TravelPathCalculator;
@@ -24,7 +23,6 @@ public class EnergyBarrier extends CollidingGameObject implements ShiftableGameO
     private static final double ENERGY_BARRIER_WIDTH = 21;
     private static final double ENERGY_BARRIER_SIZE = 7;
     private final EnergyBarrierAnimation energyBarrierAnimation;
-    private final ArrayList<CollidingGameObject> collidingGameObjectsForPathDecision;
     private final Position startPosition;
 
     private int stopCounter;
@@ -41,7 +39,7 @@ public class EnergyBarrier extends CollidingGameObject implements ShiftableGameO
      *                          spawned at
      */
     public EnergyBarrier(GameView gameView, GamePlayManager gamePlayManager, int spawnDelayInMilis, int altitudeLevel) {
-        super(gameView, gamePlayManager, altitudeLevel, false, spawnDelayInMilis, -0.1);
+        super(gameView, gamePlayManager, altitudeLevel, false, CollisionCategory.ENERGY_BARRIER, spawnDelayInMilis, -0.1);
 
         height = 41;
         width = 14;
@@ -53,7 +51,6 @@ public class EnergyBarrier extends CollidingGameObject implements ShiftableGameO
         energyBarrierAnimation = new EnergyBarrierAnimation(gameView, gamePlayManager, spawnDelayInMilis,
                 altitudeLevel, new double[]{ENERGY_BARRIER_HEIGHT, ENERGY_BARRIER_WIDTH, ENERGY_BARRIER_SIZE});
 
-        collidingGameObjectsForPathDecision = new ArrayList<>();
         startPosition = new Position(position);
 
         stopCounter = 0;
@@ -85,16 +82,9 @@ public class EnergyBarrier extends CollidingGameObject implements ShiftableGameO
         super.updatePosition();
         energyBarrierAnimation.updatePosition(position);
 
-        ArrayList<CollidingGameObject> objToRemove = new ArrayList<>();
-
-        for (CollidingGameObject collidingGameObject : collidingGameObjectsForPathDecision) {
-            if (collidingGameObject.hasDespawned) {
-                objToRemove.add(collidingGameObject);
-
-            } else if (collidesWith(collidingGameObject)) {
-                stopCounter += 30;
-                break;
-            }
+        // the barrier can't go through player laser shots at its altitude
+        if (gamePlayManager.isHitBy(this, CollisionCategory.PLAYER_SHOT)) {
+            stopCounter += 30;
         }
 
         if (stopCounter > 0) {
@@ -102,19 +92,6 @@ public class EnergyBarrier extends CollidingGameObject implements ShiftableGameO
             energyBarrierAnimation.getPosition().moveToPosition(startPosition, speedInPixel);
             stopCounter--;
         }
-
-        collidingGameObjectsForPathDecision.removeAll(objToRemove);
-    }
-
-    /**
-     * Adds a {@link CollidingGameObject} to the Walls
-     * collidingGameObjectsForPathDecision, where I can't go through.
-     *
-     * @param obj the {@link CollidingGameObject} that the {@code EnergyBarrier}
-     *            can't go through
-     */
-    public void addCollidingGameObjectForPathDecision(CollidingGameObject obj) {
-        collidingGameObjectsForPathDecision.add(obj);
     }
 
     /**
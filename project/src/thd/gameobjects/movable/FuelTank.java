@@ -27,7 +27,7 @@ public class FuelTank extends ExplodingGameObject implements ShiftableGameObject
      *                          the object
      */
     public FuelTank(GameView gameView, GamePlayManager gamePlayManager, int spawnDelayInMilis, double spawnLineInter) {
-        super(gameView, gamePlayManager, 0, true, spawnDelayInMilis, spawnLineInter);
+        super(gameView, gamePlayManager, 0, true, CollisionCategory.GROUND_TARGET, spawnDelayInMilis, spawnLineInter);
 
         height = 130;
         width = 155;
@@ -62,10 +62,15 @@ public class FuelTank extends ExplodingGameObject implements ShiftableGameObject
         }
     }
 
+    @Override
+    public SpawnPriority getSpawnPriority() {
+        return SpawnPriority.DEFERRABLE;
+    }
+
     @Override
     public void reactToCollisionWith(CollidingGameObject other) {
         if (getAltitudeLevel() == other.getAltitudeLevel()) {
-            if (other instanceof ZaxxonFighterLaserShot) {
+            if (other.getCollisionCategory() == CollisionCategory.PLAYER_SHOT) {
                 hasDespawned = true;
 
                 gamePlayManager.addPoints(300);
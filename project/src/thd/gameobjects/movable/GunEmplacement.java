@@ -32,7 +32,7 @@ public class GunEmplacement extends ExplodingGameObject implements ShiftableGame
      */
     public GunEmplacement(GameView gameView, GamePlayManager gamePlayManager, int spawnDelayInMilis, double spawnLineInter,
                           boolean orientation) {
-        super(gameView, gamePlayManager, 0, true, spawnDelayInMilis, spawnLineInter);
+        super(gameView, gamePlayManager, 0, true, CollisionCategory.GROUND_TARGET, spawnDelayInMilis, spawnLineInter);
 
         this.orientation = orientation;
         height = 19;
@@ -48,7 +48,13 @@ public class GunEmplacement extends ExplodingGameObject implements ShiftableGame
         super.updateStatus();
 
         if (!hasDespawned && gameView.gameTimeInMilliseconds() >= nextShotTime) {
-            gamePlayManager.spawnGameObject(new GunEmplacementLaserShot(gameView, gamePlayManager, this, orientation));
+            GunEmplacementLaserShot laserShot = gamePlayManager.reuseGameObject(GunEmplacementLaserShot.class);
+            if (laserShot == null) {
+                laserShot = new GunEmplacementLaserShot(gameView, gamePlayManager, this, orientation);
+            } else {
+                laserShot.reinitialize(this, orientation);
+            }
+            gamePlayManager.spawnGameObject(laserShot);
             calcNextShotTime();
 
             gameView.playSound("gunemplacementshoot.wav", false);
@@ -89,10 +95,15 @@ public class GunEmplacement extends ExplodingGameObject implements ShiftableGame
         nextShotTime = gameView.gameTimeInMilliseconds() + randomInterval;
     }
 
+    @Override
+    public SpawnPriority getSpawnPriority() {
+        return SpawnPriority.DEFERRABLE;
+    }
+
     @Override
     public void reactToCollisionWith(CollidingGameObject other) {
         if (getAltitudeLevel() == other.getAltitudeLevel()) {
-            if (other instanceof ZaxxonFighterLaserShot) {
+            if (other.getCollisionCategory() == CollisionCategory.PLAYER_SHOT) {
                 hasDespawned = true;
 
                 gamePlayManager.addPoints(Math.random() < 0.5 ? 200 : 500);
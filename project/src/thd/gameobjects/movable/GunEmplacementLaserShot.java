@@ -14,11 +14,11 @@ import thd.game.utilities.TravelPathCalculator;
  *
  * @see GameObject
  */
-class GunEmplacementLaserShot extends CollidingGameObject implements ShiftableGameObject {
+class GunEmplacementLaserShot extends CollidingGameObject implements ShiftableGameObject, PoolableGameObject {
     private static final int MAX_LASER_SHOT_LENGTH = 500;
 
-    private final GunEmplacement gunEmplacement;
-    private final boolean orientation;
+    private GunEmplacement gunEmplacement;
+    private boolean orientation;
 
     /**
      * Creates a new {@code GunEmplacementLaserShot} GameObject.
@@ -34,18 +34,31 @@ class GunEmplacementLaserShot extends CollidingGameObject implements ShiftableGa
             GunEmplacement gunEmplacement,
             boolean orientation
     ) {
-        super(gameView, gamePlayManager, 0, true);
-
-        this.orientation = orientation;
-        this.gunEmplacement = gunEmplacement;
+        super(gameView, gamePlayManager, 0, true, CollisionCategory.ENEMY_SHOT);
 
         height = 8;
         width = 16;
         size = 4;
         speedInPixel = 7;
 
-        calculatePosition();
         hitBoxOffsets(-width * size / 2, -height * size / 2, 0, 0);
+        reinitialize(gunEmplacement, orientation);
+    }
+
+    /**
+     * Reinitializes a removed {@code GunEmplacementLaserShot}, so that it can be spawned again.
+     *
+     * @param gunEmplacement the corresponding {@link GunEmplacement}
+     * @param orientation    true -> straight shot, false -> shot to the left
+     * @see GamePlayManager#reuseGameObject
+     */
+    void reinitialize(GunEmplacement gunEmplacement, boolean orientation) {
+        resetForReuse();
+
+        this.orientation = orientation;
+        this.gunEmplacement = gunEmplacement;
+
+        calculatePosition();
     }
 
 
@@ -127,9 +140,37 @@ class GunEmplacementLaserShot extends CollidingGameObject implements ShiftableGa
             newTargetPosition.add(position);
         }
 
+        // cut the laser short at the first wall in its way
+        // walls move towards the despawn line while the laser flies, so the ray is cast relative to the walls
+        double laserSpeed = speedInPixel + GameSettings.SPEED_IN_PIXEL;
+        double framesToTarget = position.distance(newTargetPosition) / laserSpeed;
+        if (framesToTarget > 0) {
+            Vector2d laserVelocity = new Vector2d(newTargetPosition);
+            laserVelocity.subtract(position);
+            laserVelocity.scaleToMagnitude(laserSpeed);
+
+            Vector2d velocityRelativeToWalls = new Vector2d(laserVelocity);
+            velocityRelativeToWalls.subtract(new Position(
+                    TravelPathCalculator.TRAVEL_DIRECTION_X * GameSettings.SPEED_IN_PIXEL,
+                    TravelPathCalculator.TRAVEL_DIRECTION_Y * GameSettings.SPEED_IN_PIXEL));
+
+            RaycastHit wallHit = gamePlayManager.castRay(position, velocityRelativeToWalls, framesToTarget,
+                    altitudeLevel, CollisionCategory.WALL);
+            if (wallHit != null) {
+                laserVelocity.scalarMultiplication(wallHit.getEntryParameter());
+                laserVelocity.add(position);
+                newTargetPosition = laserVelocity;
+            }
+        }
+
         targetPosition.updateCoordinates(newTargetPosition);
     }
 
+    @Override
+    public SpawnPriority getSpawnPriority() {
+        return SpawnPriority.REFUSABLE;
+    }
+
     @Override
     public void reactToCollisionWith(CollidingGameObject other) {
         if (getAltitudeLevel() == other.getAltitudeLevel()) {
@@ -10,8 +10,8 @@ import thd.gameobjects.base.*;
  * A hazardous Enemy Game Object that spawns in the Motherbase. The Rocket is launched from the corresponding {@link VerticalRocketHole}.
  * The Rocket should either be dodged or shot at. It yields 150 Points upon destruction.
  */
-public class VerticalRocket extends ExplodingGameObject implements ShiftableGameObject {
-    private final VerticalRocketHole verticalRocketHole;
+public class VerticalRocket extends ExplodingGameObject implements ShiftableGameObject, PoolableGameObject {
+    private VerticalRocketHole verticalRocketHole;
     private double altitudeInterpolation;
 
     /**
@@ -22,14 +22,28 @@ public class VerticalRocket extends ExplodingGameObject implements ShiftableGame
      * @param verticalRocketHole reference to the corresponding {@link VerticalRocketHole}
      */
     VerticalRocket(GameView gameView, GamePlayManager gamePlayManager, VerticalRocketHole verticalRocketHole) {
-        super(gameView, gamePlayManager, 0, true);
+        super(gameView, gamePlayManager, 0, true, CollisionCategory.ROCKET);
+
+        speedInPixel = 2;
+
+        reinitialize(verticalRocketHole);
+    }
+
+    /**
+     * Reinitializes a removed {@code VerticalRocket}, so that it can be spawned again.
+     *
+     * @param verticalRocketHole reference to the corresponding {@link VerticalRocketHole}
+     * @see GamePlayManager#reuseGameObject
+     */
+    void reinitialize(VerticalRocketHole verticalRocketHole) {
+        resetForReuse();
 
         this.verticalRocketHole = verticalRocketHole;
 
+        // the explosion changes the dimensions
         height = 19;
         width = 10;
         size = 4;
-        speedInPixel = 2;
         altitudeInterpolation = 0;
 
         updatePosition(); // initialize start and target position
@@ -51,12 +65,17 @@ public class VerticalRocket extends ExplodingGameObject implements ShiftableGame
         altitudeLevel = (int) (altitudeInterpolation * MAX_ALTITUDE_LEVEL);
     }
 
+    @Override
+    public SpawnPriority getSpawnPriority() {
+        return SpawnPriority.REFUSABLE;
+    }
+
     @Override
     public void reactToCollisionWith(CollidingGameObject other) {
-        if (other instanceof ZaxxonFighterLaserShot || other instanceof ZaxxonFighter) {
+        if (reactsTo(other)) {
             gamePlayManager.destroyGameObject(this);
 
-            if (other instanceof ZaxxonFighterLaserShot) {
+            if (other.getCollisionCategory() == CollisionCategory.PLAYER_SHOT) {
                 gamePlayManager.addPoints(150);
             }
         }
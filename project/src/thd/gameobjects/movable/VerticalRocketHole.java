@@ -6,6 +6,7 @@ import thd.gameobjects.base.ActivatableGameObject;
 import thd.gameobjects.base.GameObject;
 import thd.gameobjects.base.Position;
 import thd.gameobjects.base.ShiftableGameObject;
+import thd.gameobjects.base.SpawnPriority;
 
 /**
  * A passive {@code GameObject} that spawns in the Motherbase of the Game.
@@ -41,7 +42,13 @@ public class VerticalRocketHole extends GameObject implements ShiftableGameObjec
     public void updateStatus() {
         super.updateStatus();
         if (!rocketAlreadySpawned && calcInterpolation() > rocketSpawnInterpolationTreshold) {
-            gamePlayManager.spawnGameObject(new VerticalRocket(gameView, gamePlayManager, this));
+            VerticalRocket verticalRocket = gamePlayManager.reuseGameObject(VerticalRocket.class);
+            if (verticalRocket == null) {
+                verticalRocket = new VerticalRocket(gameView, gamePlayManager, this);
+            } else {
+                verticalRocket.reinitialize(this);
+            }
+            gamePlayManager.spawnGameObject(verticalRocket);
             rocketAlreadySpawned = true;
         }
     }
@@ -68,4 +75,9 @@ public class VerticalRocketHole extends GameObject implements ShiftableGameObjec
         Position mid = calcMiddlePoint();
         gameView.addBlockImageToCanvas(VerticalRocketBlockImages.HOLE, mid.getX(), mid.getY(), size, 0);
     }
+
+    @Override
+    public SpawnPriority getSpawnPriority() {
+        return SpawnPriority.DEFERRABLE;
+    }
 }
@@ -3,6 +3,7 @@ package thd.gameobjects.movable;
 import thd.game.managers.GamePlayManager;
 import thd.game.utilities.GameView;
 import thd.game.utilities.WallBlockGraphicUtils;
+import thd.gameobjects.base.BandHitbox;
 import thd.gameobjects.base.GameObject;
 
 import java.util.ArrayList;
@@ -51,6 +52,7 @@ public class Wall extends GameObject {
         for (int y = 0; y < wallBlockImageInRows.length; y++) {
             String blockGraphic = wallBlockImageInRows[wallBlockImageInRows.length - y - 1];
             ArrayList<int[]> hitboxIndices = hitboxIndicesInRows.get(hitboxIndicesInRows.size() - y - 1);
+            BandHitbox bandHitbox = dynamicWall.bandHitboxesInRows[hitboxIndicesInRows.size() - y - 1];
 
             wallRows[y] = new WallRow(
                     gameView,
@@ -59,7 +61,8 @@ public class Wall extends GameObject {
                     spawnLineInter,
                     y,
                     blockGraphic,
-                    hitboxIndices);
+                    hitboxIndices,
+                    bandHitbox);
         }
     }
 
@@ -1,12 +1,13 @@
 package thd.gameobjects.movable;
 
 import thd.game.managers.GamePlayManager;
-import thd.game.managers.GameSettings;
 import thd.game.utilities.GameView;
 import thd.game.utilities.WallBlockGraphicUtils;
 import thd.game.utilities.WallBuildingService;
 import thd.gameobjects.base.ActivatableGameObject;
+import thd.gameobjects.base.BandHitbox;
 import thd.gameobjects.base.CollidingGameObject;
+import thd.gameobjects.base.CollisionCategory;
 import thd.gameobjects.base.Position;
 import thd.gameobjects.base.ShiftableGameObject;
 
@@ -35,6 +36,7 @@ public class WallRow extends CollidingGameObject implements ShiftableGameObject,
      * @param altitudeIndex     the vertical index of the row
      * @param blockGraphic      the block Graphic String for this row
      * @param hitboxIndices     the positions of the hitboxes in this row (can have holes)
+     * @param bandHitbox        the precomputed compound hitbox for the same positions
      */
     public WallRow(
             GameView gameView,
@@ -43,23 +45,24 @@ public class WallRow extends CollidingGameObject implements ShiftableGameObject,
             double spawnLineInter,
             int altitudeIndex,
             String blockGraphic,
-            ArrayList<int[]> hitboxIndices
+            ArrayList<int[]> hitboxIndices,
+            BandHitbox bandHitbox
     ) {
-        super(gameView, gamePlayManager, altitudeIndex / 2, false, spawnDelayInMilis, spawnLineInter - 0.1);
+        super(gameView, gamePlayManager, altitudeIndex / 2, false, CollisionCategory.WALL, spawnDelayInMilis, spawnLineInter - 0.1);
         this.blockGraphic = blockGraphic;
 
         int[] wallBlockDimensions = WallBlockGraphicUtils.calcBlockImageDimension(blockGraphic);
         height = WallBuildingService.FULL_BLOCK_INCREASE_OFFSET_Y;
         width = wallBlockDimensions[1];
 
-        // dynamically calculate size, so that when player flies over wall, the wall actually looks lower than the player
-        size = Math.floor(GameSettings.MAX_PLAYER_ALTITUDE / (9 * height));
+        size = WallBuildingService.WALL_ROW_SIZE;
 
         double offsetY = altitudeIndex * WallBuildingService.FULL_BLOCK_INCREASE_OFFSET_Y * size;
         position.up(offsetY);
         targetPosition.up(offsetY);
 
         setRelativeHitboxPolygons(calculateHitbox(hitboxIndices));
+        setBandHitbox(bandHitbox);
         hitBoxOffsets(0, 0, 0, 0);
     }
 
@@ -2,7 +2,6 @@ package thd.gameobjects.movable;
 
 import thd.game.managers.GameSettings;
 import thd.game.managers.GamePlayManager;
-import thd.game.utilities.DynamicZIndexGameObject;
 import thd.game.utilities.GameView;
 import thd.game.utilities.GeometricUtils;
 import thd.game.utilities.TravelPathCalculator;
@@ -15,11 +14,12 @@ import thd.gameobjects.base.*;
  *
  * @see GameObject
  */
-public class ZaxxonFighter extends CollidingGameObject implements MainCharacter, DynamicZIndexGameObject {
+public class ZaxxonFighter extends CollidingGameObject implements MainCharacter {
     private final Vector2d movementVector;
     private final Position preProjectionPosition;
     private final Vector2d projectedPosition;
     private final Position shadowPosition;
+    private final Position laserShotPosition;
 
     private double altitudeInterpolation;
     private double movementInterpolation;
@@ -40,7 +40,7 @@ public class ZaxxonFighter extends CollidingGameObject implements MainCharacter,
      * @param gamePlayManager   reference to the gamePlayManager
      */
     public ZaxxonFighter(GameView gameView, GamePlayManager gamePlayManager) {
-        super(gameView, gamePlayManager, 0, true);
+        super(gameView, gamePlayManager, 0, true, CollisionCategory.PLAYER);
 
         speedInPixel = 3;
         size = 4;
@@ -51,6 +51,7 @@ public class ZaxxonFighter extends CollidingGameObject implements MainCharacter,
         preProjectionPosition = new Position(TravelPathCalculator.TRAVEL_PATH_WIDTH/2.0, GameSettings.MAX_PLAYER_ALTITUDE/2.0);
         projectedPosition = new Vector2d();
         shadowPosition = new Position();
+        laserShotPosition = new Position();
 
         shadowWidth = 22;
         shadowHeight = 14;
@@ -63,20 +64,10 @@ public class ZaxxonFighter extends CollidingGameObject implements MainCharacter,
 
     @Override
     public void reactToCollisionWith(CollidingGameObject other) {
-        if (getAltitudeLevel() == other.getAltitudeLevel()) {
-            if (
-                    other instanceof EnemyShooter
-                            || other instanceof EnergyBarrier
-                            || other instanceof FuelTank
-                            || other instanceof GunEmplacement
-                            || other instanceof GunEmplacementLaserShot
-                            || other instanceof RadarTower
-                            || other instanceof WallRow
-                            || other instanceof VerticalRocket
-            ) {
-                gamePlayManager.destroyGameObject(this);
-                gamePlayManager.lifeLost();
-            }
+        // every category the fighter reacts to is lethal, see CollisionCategory
+        if (getAltitudeLevel() == other.getAltitudeLevel() && reactsTo(other)) {
+            gamePlayManager.destroyGameObject(this);
+            gamePlayManager.lifeLost();
         }
     }
 
@@ -105,7 +96,7 @@ public class ZaxxonFighter extends CollidingGameObject implements MainCharacter,
         movementInterpolation = preProjectionPosition.getX() / TravelPathCalculator.TRAVEL_PATH_WIDTH;
         altitudeInterpolation = preProjectionPosition.getY() / (GameSettings.MAX_PLAYER_ALTITUDE);
         altitudeLevel = (int) (altitudeInterpolation * MAX_ALTITUDE_LEVEL);
-        distanceToBackground = (char) (altitudeLevel + 5);
+        setDistanceToBackground((char) (altitudeLevel + 5));
 
         // calculate position of the shadow below the player
         shadowPosition.updateCoordinates(GeometricUtils.interpolatePosition(
@@ -167,10 +158,17 @@ public class ZaxxonFighter extends CollidingGameObject implements MainCharacter,
     @Override
     public void shoot() {
         if (gameView.timer(SHOT_DURATION_IN_MILLISECONDS, Integer.MAX_VALUE, this)) {
-            Vector2d laserShotPosition = new Vector2d(position);
+            laserShotPosition.updateCoordinates(position);
             laserShotPosition.right(getWidth());
             laserShotPosition.up(getHeight() / 2);
-            gamePlayManager.spawnGameObject(new ZaxxonFighterLaserShot(gameView, gamePlayManager, laserShotPosition, getAltitudeLevel()));
+
+            ZaxxonFighterLaserShot laserShot = gamePlayManager.reuseGameObject(ZaxxonFighterLaserShot.class);
+            if (laserShot == null) {
+                laserShot = new ZaxxonFighterLaserShot(gameView, gamePlayManager, laserShotPosition, getAltitudeLevel());
+            } else {
+                laserShot.reinitialize(laserShotPosition, getAltitudeLevel());
+            }
+            gamePlayManager.spawnGameObject(laserShot);
             gameView.resetTimers(this);
 
             gameView.playSound("playershoot.wav", false);
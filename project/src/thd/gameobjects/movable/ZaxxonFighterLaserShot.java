@@ -13,7 +13,11 @@ import thd.game.utilities.TravelPathCalculator;
  *
  * @see GameObject
  */
-public class ZaxxonFighterLaserShot extends ExplodingSparklingGameObject {
+public class ZaxxonFighterLaserShot extends ExplodingSparklingGameObject implements PoolableGameObject {
+    private static final Vector2d DISTANCE_TO_SPAWN_LINE = new Vector2d(
+            TravelPathCalculator.DISTANCE_PLAYER_MOVEMENT_TO_SPAWN_LINE, GameSettings.MOVEMENT_ANGLE_IN_RADIANS);
+    private static final Vector2d SHIFT_WHILE_EXPLODING = new Vector2d(
+            -GameSettings.SPEED_IN_PIXEL, GameSettings.MOVEMENT_ANGLE_IN_RADIANS);
 
     /**
      * Creates a new {@code PlayerLaserShot} GameObject.
@@ -24,18 +28,36 @@ public class ZaxxonFighterLaserShot extends ExplodingSparklingGameObject {
      * @param altitudeLevel     the altitude level of the {@link ZaxxonFighter} when shooting
      */
     public ZaxxonFighterLaserShot(GameView gameView, GamePlayManager gamePlayManager, Position startPosition, int altitudeLevel) {
-        super(gameView, gamePlayManager, altitudeLevel, true);
+        super(gameView, gamePlayManager, altitudeLevel, true, CollisionCategory.PLAYER_SHOT);
 
+        speedInPixel = 6;
+
+        reinitialize(startPosition, altitudeLevel);
+    }
+
+    /**
+     * Reinitializes a removed {@code PlayerLaserShot}, so that it can be spawned again.
+     *
+     * @param startPosition the current position of the {@link ZaxxonFighter}
+     * @param altitudeLevel the altitude level of the {@link ZaxxonFighter} when shooting
+     * @see GamePlayManager#reuseGameObject
+     */
+    void reinitialize(Position startPosition, int altitudeLevel) {
+        resetForReuse();
+
+        this.altitudeLevel = altitudeLevel;
+        distanceToBackground = (char) (altitudeLevel + 5);
+
+        // the explosion changes the dimensions
         height = 8;
         width = 16;
         size = 4;
-        speedInPixel = 6;
 
         position.updateCoordinates(startPosition);
 
-        Vector2d positionOnSpawnLine = new Vector2d(startPosition);
-        positionOnSpawnLine.add(new Vector2d(TravelPathCalculator.DISTANCE_PLAYER_MOVEMENT_TO_SPAWN_LINE, GameSettings.MOVEMENT_ANGLE_IN_RADIANS));
-        targetPosition.updateCoordinates(positionOnSpawnLine);
+        targetPosition.updateCoordinates(startPosition);
+        targetPosition.right(DISTANCE_TO_SPAWN_LINE.getX());
+        targetPosition.down(DISTANCE_TO_SPAWN_LINE.getY());
 
         hitBoxOffsets(-width*size/2, -height*size/2, 0, 0);
     }
@@ -49,9 +71,8 @@ public class ZaxxonFighterLaserShot extends ExplodingSparklingGameObject {
             position.moveToPosition(targetPosition, speedInPixel);
 
         } else {
-            Vector2d newPosition = new Vector2d(position);
-            newPosition.add(new Vector2d(-GameSettings.SPEED_IN_PIXEL, GameSettings.MOVEMENT_ANGLE_IN_RADIANS));
-            position.updateCoordinates(newPosition);
+            position.right(SHIFT_WHILE_EXPLODING.getX());
+            position.down(SHIFT_WHILE_EXPLODING.getY());
         }
     }
 
@@ -79,20 +100,25 @@ public class ZaxxonFighterLaserShot extends ExplodingSparklingGameObject {
         }
     }
 
+    @Override
+    public SpawnPriority getSpawnPriority() {
+        return SpawnPriority.REFUSABLE;
+    }
+
     @Override
     public void reactToCollisionWith(CollidingGameObject other) {
         if (getAltitudeLevel() == other.getAltitudeLevel()) {
-            if (
-                    other instanceof EnemyShooter
-                            || other instanceof FuelTank
-                            || other instanceof GunEmplacement
-                            || other instanceof RadarTower
-            ) {
-                gamePlayManager.destroyGameObject(this);
-                hasDespawned = true;
-
-            } else if (other instanceof WallRow || other instanceof EnergyBarrier) {
-                hasDespawned = true;
+            switch (other.getCollisionCategory()) {
+                case GROUND_TARGET:
+                    gamePlayManager.destroyGameObject(this);
+                    hasDespawned = true;
+                    break;
+                case WALL:
+                case ENERGY_BARRIER:
+                    hasDespawned = true;
+                    break;
+                default:
+                    break;
             }
         }
     }